@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -24,6 +25,32 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command like {@link #execute(String)}, but parses it and saves the address book on a
+     * background thread. The command itself still runs on the UI thread, since it changes observable model
+     * state, so the UI thread is busy while the command changes the model.
+     * Commands are executed in the order they are submitted.
+     * @param commandText The command as entered by the user.
+     * @return a future completed on the UI thread with the result of the command execution, or with the
+     *     {@code CommandException} or {@code ParseException} it failed with.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Runs {@code task} in order with the commands given to {@link #executeAsync(String)}, and saves the
+     * address book if it changed anything. The task is prepared and the address book saved on the background
+     * thread; only the changes the task returns are made on the UI thread.
+     * @return a future completed on the UI thread once the task has run and its changes are saved, or with
+     *     the {@code CommandException} that saving failed with.
+     */
+    CompletableFuture<Void> executeAsync(ModelTask task);
+
+    /**
+     * Stops accepting commands for {@link #executeAsync(String)}, and waits a bounded time for the commands
+     * already submitted to run and save.
+     */
+    void stop();
+
     /**
      * Returns the AddressBook.
      *
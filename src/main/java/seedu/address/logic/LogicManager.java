@@ -3,6 +3,15 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -17,6 +26,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.club.Club;
 import seedu.address.model.person.Person;
+import seedu.address.storage.AddressBookStorage.SaveTask;
 import seedu.address.storage.Storage;
 
 /**
@@ -28,37 +38,204 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    // How long stop() waits for the commands already submitted to run and save
+    private static final long STOP_TIMEOUT_MILLIS = 10_000;
+    private static final long STOP_POLL_MILLIS = 10;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final Executor uiExecutor;
+    // A single thread, so that commands submitted with executeAsync run and save in the order of submission
+    private final ExecutorService commandThread;
+    // Work for the UI thread, run by whichever of uiExecutor or stop() gets to it first
+    private final Queue<Runnable> uiTasks = new ConcurrentLinkedQueue<>();
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which runs
+     * the commands given to {@link #executeAsync(String)} on the thread that calls it back.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Runnable::run);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     *
+     * @param uiExecutor Runs tasks on the thread that owns the model, e.g. {@code Platform::runLater}.
+     */
+    public LogicManager(Model model, Storage storage, Executor uiExecutor) {
         this.model = model;
         this.storage = storage;
+        this.uiExecutor = uiExecutor;
         addressBookParser = new AddressBookParser();
+        commandThread = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-executor");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        CommandResult commandResult = executeOnModel(command);
+        save(() -> storage.saveAddressBook(model.getAddressBook()));
+        return commandResult;
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        commandThread.execute(() -> {
+            try {
+                CommandResult commandResult = executeInBackground(commandText);
+                runOnUiThread(() -> result.complete(commandResult));
+            } catch (CommandException | ParseException | RuntimeException e) {
+                runOnUiThread(() -> result.completeExceptionally(e));
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<Void> executeAsync(ModelTask task) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        commandThread.execute(() -> {
+            try {
+                runInBackground(task);
+                runOnUiThread(() -> result.complete(null));
+            } catch (CommandException | RuntimeException e) {
+                runOnUiThread(() -> result.completeExceptionally(e));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Must be called on the UI thread. While it waits, it runs the work the queued commands need done on the
+     * UI thread itself, as the UI thread cannot get to it.
+     */
+    @Override
+    public void stop() {
+        commandThread.shutdown();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(STOP_TIMEOUT_MILLIS);
+        try {
+            while (!commandThread.awaitTermination(STOP_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                runPendingUiTasks();
+                if (System.nanoTime() > deadline) {
+                    logger.warning("Stopped before all submitted commands had run and saved");
+                    return;
+                }
+            }
+            // Report the results of the last commands too
+            runPendingUiTasks();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Parses the command and saves its result on the calling thread, but executes it on the UI thread,
+     * as one task that reports the changes to the model in one batch and captures the data to save.
+     */
+    private CommandResult executeInBackground(String commandText) throws CommandException, ParseException {
+        logger.info("----------------[USER COMMAND][" + commandText + "]");
+
+        Command command = addressBookParser.parseCommand(commandText);
+        ExecutedCommand executedCommand = callOnUiThread(() -> {
+            CommandResult commandResult = executeOnModel(command);
+            return new ExecutedCommand(commandResult, storage.snapshotAddressBook(model.getAddressBook()));
+        });
+        save(executedCommand.saveTask);
+        return executedCommand.commandResult;
+    }
+
+    /**
+     * Prepares the task on the calling thread, makes its changes on the UI thread as one task that also
+     * captures the data to save, and saves it on the calling thread.
+     */
+    private void runInBackground(ModelTask task) throws CommandException {
+        Optional<Runnable> changes = task.prepare(model);
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        SaveTask saveTask = callOnUiThread(() -> {
+            try {
+                changes.get().run();
+            } finally {
+                model.flushUpdates();
+            }
+            return storage.snapshotAddressBook(model.getAddressBook());
+        });
+        save(saveTask);
+    }
+
+    /**
+     * Runs {@code uiTask} on the UI thread and waits for its result, rethrowing what it failed with.
+     */
+    private <T> T callOnUiThread(UiTask<T> uiTask) throws CommandException {
+        CompletableFuture<T> done = new CompletableFuture<>();
+        runOnUiThread(() -> {
+            try {
+                done.complete(uiTask.call());
+            } catch (CommandException | RuntimeException e) {
+                done.completeExceptionally(e);
+            }
+        });
+
+        try {
+            return done.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof CommandException) {
+                throw (CommandException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Runs {@code task} on the UI thread after the UI tasks given before it, or on the thread calling
+     * {@link #stop()} if that thread gets to it first.
+     */
+    private void runOnUiThread(Runnable task) {
+        uiTasks.add(task);
+        uiExecutor.execute(this::runPendingUiTasks);
+    }
+
+    private void runPendingUiTasks() {
+        Runnable task;
+        while ((task = uiTasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private CommandResult executeOnModel(Command command) throws CommandException {
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            return command.execute(model);
+        } finally {
+            // Persons and clubs changed by the command are shown as changed once, even if it failed halfway
+            model.flushUpdates();
+        }
+    }
+
+    private void save(SaveTask saveTask) throws CommandException {
+        try {
+            saveTask.save();
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
-
-        return commandResult;
     }
 
     @Override
@@ -90,4 +267,25 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    /**
+     * Work that must run on the UI thread.
+     */
+    @FunctionalInterface
+    private interface UiTask<T> {
+        T call() throws CommandException;
+    }
+
+    /**
+     * The result of a command, and the data it left to save.
+     */
+    private static class ExecutedCommand {
+        private final CommandResult commandResult;
+        private final SaveTask saveTask;
+
+        ExecutedCommand(CommandResult commandResult, SaveTask saveTask) {
+            this.commandResult = commandResult;
+            this.saveTask = saveTask;
+        }
+    }
 }
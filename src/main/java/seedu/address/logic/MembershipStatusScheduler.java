@@ -0,0 +1,112 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Model;
+import seedu.address.model.membership.Membership;
+
+/**
+ * Updates membership statuses at every local midnight, so that a long-running instance does not show
+ * memberships as active after they have expired.
+ * The wait happens on a background thread. The update is handed to {@link Logic#executeAsync(ModelTask)},
+ * so it runs and saves in order with the commands entered. Finding the memberships that are due, compacting
+ * membership histories older than the horizon in the user prefs and saving all happen on the command thread;
+ * only the status changes, which are observable, are made on the UI thread.
+ */
+public class MembershipStatusScheduler {
+
+    private static final Logger logger = LogsCenter.getLogger(MembershipStatusScheduler.class);
+
+    private final Logic logic;
+    private final Clock clock;
+    private final ScheduledExecutorService timer;
+
+    /**
+     * Creates a scheduler that updates the statuses in the model of {@code logic}, which also saves them.
+     *
+     * @param clock The clock that decides when midnight is, in its time zone.
+     */
+    public MembershipStatusScheduler(Logic logic, Clock clock) {
+        requireAllNonNull(logic, clock);
+        this.logic = logic;
+        this.clock = clock;
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "membership-status-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules the first update for the coming midnight.
+     */
+    public void start() {
+        scheduleNext();
+    }
+
+    /**
+     * Cancels any pending update.
+     */
+    public void stop() {
+        timer.shutdownNow();
+    }
+
+    /**
+     * Returns the time from now, according to the clock, until the coming local midnight.
+     */
+    Duration getDelayUntilMidnight() {
+        ZonedDateTime now = ZonedDateTime.now(clock);
+        ZonedDateTime midnight = now.toLocalDate().plusDays(1).atStartOfDay(clock.getZone());
+        return Duration.between(now, midnight);
+    }
+
+    /**
+     * Queues an update of the statuses and a compaction of the histories as of {@code today}, followed by
+     * a save of the address book if anything changed.
+     *
+     * @return a future completed once the update has been made and saved.
+     */
+    CompletableFuture<Void> updateStatuses(LocalDate today) {
+        return logic.executeAsync(model -> prepareUpdate(model, today)).whenComplete((unused, error) -> {
+            if (error != null) {
+                logger.warning("Failed to save membership status update: " + StringUtil.getDetails(error));
+            }
+        });
+    }
+
+    private static Optional<Runnable> prepareUpdate(Model model, LocalDate today) {
+        List<Membership> due = model.takeMembershipsDue(today);
+        int compacted = model.compactMembershipHistory(today);
+        logger.info("Membership status update as of " + today + ": " + due.size() + " membership(s) due, "
+                + compacted + " history event(s) compacted.");
+        if (due.isEmpty() && compacted == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(() -> due.forEach(membership -> membership.updateStatus(today)));
+    }
+
+    private void scheduleNext() {
+        Duration delay = getDelayUntilMidnight();
+        // The date is fixed now, so that waking up slightly early still updates as of the new day
+        LocalDate nextDay = LocalDate.now(clock).plusDays(1);
+        logger.fine("Next membership status update in " + delay);
+        timer.schedule(() -> {
+            updateStatuses(nextDay);
+            scheduleNext();
+        }, delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+}
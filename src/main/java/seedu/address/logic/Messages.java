@@ -38,6 +38,7 @@ public class Messages {
     public static final String MESSAGE_INVALID_CLUB_DISPLAYED_INDEX_DETAILED = "%1$d is an invalid club index";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
     public static final String MESSAGE_CLUBS_LISTED_OVERVIEW = "%1$d clubs listed!";
+    public static final String MESSAGE_SEARCH_TIMING = "Planned in %1$.3f ms, filtered in %2$.3f ms";
     public static final String MESSAGE_DUPLICATE_PREFIXES =
                 "The following prefix(es) are duplicated: ";
 
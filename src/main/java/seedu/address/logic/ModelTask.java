@@ -0,0 +1,22 @@
+package seedu.address.logic;
+
+import java.util.Optional;
+
+import seedu.address.model.Model;
+
+/**
+ * Work on the model that is not a user command, e.g. a scheduled status update, run in order with the
+ * commands given to {@link Logic#executeAsync(String)}.
+ */
+@FunctionalInterface
+public interface ModelTask {
+    /**
+     * Does the work that needs no UI thread, while no command is changing {@code model}, and returns the
+     * changes to observable model state that must be made on the UI thread.
+     * Must not change observable model state itself.
+     *
+     * @return the changes to make on the UI thread before the address book is saved, or an empty
+     *     {@code Optional} if there is nothing to change or save.
+     */
+    Optional<Runnable> prepare(Model model);
+}
@@ -5,6 +5,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_CLUB;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MEMBER;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 
@@ -67,9 +68,9 @@ public class AddMembershipCommand extends Command {
         builder.append(String.format(message, args)).append("\n");
     }
 
-    private Membership createMembership(Person person, Club club) throws CommandException {
+    private Membership createMembership(Person person, Club club, LocalDate today) throws CommandException {
         try {
-            return new Membership(person, club, durationInMonths);
+            return new Membership(person, club, durationInMonths, today);
         } catch (IllegalArgumentException e) {
             throw new CommandException(e.getMessage());
         }
@@ -96,38 +97,44 @@ public class AddMembershipCommand extends Command {
         List<Index> validPersons = findValidIndexes(personIndexes, lastShownPersonList.size());
         List<Index> validClubs = findValidIndexes(clubIndexes, lastShownClubList.size());
 
-        for (Index clubIndex : validClubs) {
-            StringBuilder personNamesBuilder = new StringBuilder();
-            Club club = lastShownClubList.get(clubIndex.getZeroBased());
-            String clubName = club.getName().toString();
-
-            for (Index personIndex : validPersons) {
-                Person person = lastShownPersonList.get(personIndex.getZeroBased());
-                String personName = person.getName().toString();
-
-                // Check if membership already exists
-                Membership toAdd = createMembership(person, club);
-                if (model.hasMembership(toAdd)) {
-                    appendToMessage(outputMessageBuilder, MESSAGE_DUPLICATE_MEMBERSHIP, personName, clubName);
-                    continue; //Skip adding this membership and move to the next person
+        // Memberships are added as one batch, so the lists are updated once rather than per membership
+        model.beginBatch();
+        try {
+            for (Index clubIndex : validClubs) {
+                StringBuilder personNamesBuilder = new StringBuilder();
+                Club club = lastShownClubList.get(clubIndex.getZeroBased());
+                String clubName = club.getName().toString();
+
+                for (Index personIndex : validPersons) {
+                    Person person = lastShownPersonList.get(personIndex.getZeroBased());
+                    String personName = person.getName().toString();
+
+                    // Check if membership already exists
+                    Membership toAdd = createMembership(person, club, model.getToday());
+                    if (model.hasMembership(toAdd)) {
+                        appendToMessage(outputMessageBuilder, MESSAGE_DUPLICATE_MEMBERSHIP, personName, clubName);
+                        continue; //Skip adding this membership and move to the next person
+                    }
+                    //Only add the person who are not already in the club to personNamesBuilder
+                    // for MESSAGE_ADDED_TO_CLUB message
+                    personNamesBuilder.append(personName).append(", ");
+
+                    club.addMembership(toAdd);
+                    person.addMembership(toAdd);
+                    model.addMembership(toAdd);
                 }
-                //Only add the person who are not already in the club to personNamesBuilder
-                // for MESSAGE_ADDED_TO_CLUB message
-                personNamesBuilder.append(personName).append(", ");
-
-                club.addMembership(toAdd);
-                person.addMembership(toAdd);
-                model.addMembership(toAdd);
-            }
-            // Also handle the case where no new memberships were added
-            if (personNamesBuilder.length() == 0) {
-                continue; // No new members were added to this club
+                // Also handle the case where no new memberships were added
+                if (personNamesBuilder.length() == 0) {
+                    continue; // No new members were added to this club
+                }
+                // Remove the trailing comma and space
+                assert personNamesBuilder.length() >= 2;
+                personNamesBuilder.setLength(personNamesBuilder.length() - 2);
+                String personNames = personNamesBuilder.toString();
+                appendToMessage(outputMessageBuilder, MESSAGE_ADDED_TO_CLUB, personNames, clubName);
             }
-            // Remove the trailing comma and space
-            assert personNamesBuilder.length() >= 2;
-            personNamesBuilder.setLength(personNamesBuilder.length() - 2);
-            String personNames = personNamesBuilder.toString();
-            appendToMessage(outputMessageBuilder, MESSAGE_ADDED_TO_CLUB, personNames, clubName);
+        } finally {
+            model.commitBatch();
         }
         String outputMessage = outputMessageBuilder.toString();
         return new CommandResult(outputMessage);
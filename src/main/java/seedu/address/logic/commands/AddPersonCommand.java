@@ -94,7 +94,7 @@ public class AddPersonCommand extends Command {
             }
 
             Club club = lastShownClubList.get(clubIndex.getZeroBased());
-            Membership membershipToAdd = new Membership(personToAdd, club);
+            Membership membershipToAdd = new Membership(personToAdd, club, model.getToday());
             club.addMembership(membershipToAdd);
             personToAdd.addMembership(membershipToAdd);
             model.addMembership(membershipToAdd);
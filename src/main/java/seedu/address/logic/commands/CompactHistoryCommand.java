@@ -0,0 +1,27 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.Model;
+
+/**
+ * Folds old renewals and reactivations in every membership history into summary events.
+ */
+public class CompactHistoryCommand extends Command {
+
+    public static final String COMMAND_WORD = "compact_history";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Summarises the renewals and reactivations in every membership history that are older than "
+            + "the history compaction horizon in the preferences file. Joins and cancellations are kept.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Membership histories compacted, %d event(s) folded into summaries.";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        int removed = model.compactMembershipHistory(model.getToday());
+        return new CommandResult(String.format(MESSAGE_SUCCESS, removed));
+    }
+}
@@ -70,39 +70,45 @@ public class DeleteMembershipCommand extends Command {
         List<Index> validPersons = findValidIndexes(personIndexes, lastShownPersonList.size());
         List<Index> validClubs = findValidIndexes(clubIndexes, lastShownClubList.size());
 
-        for (Index clubIndex : validClubs) {
-            StringBuilder personNamesBuilder = new StringBuilder();
-            Club club = lastShownClubList.get(clubIndex.getZeroBased());
-            String clubName = club.getName().toString();
-
-            for (Index personIndex : validPersons) {
-                Person person = lastShownPersonList.get(personIndex.getZeroBased());
-                String personName = person.getName().toString();
-
-                // Check if membership doesn't exist
-                Membership toRemove = new Membership(person, club);
-                if (!model.hasMembership(toRemove)) {
-                    appendToMessage(outputMessageBuilder, MESSAGE_NOTEXIST_MEMBERSHIP, personName, clubName);
-                    continue; // Skip to the next person index
+        // Memberships are removed as one batch, so changed persons and clubs are reported once
+        model.beginBatch();
+        try {
+            for (Index clubIndex : validClubs) {
+                StringBuilder personNamesBuilder = new StringBuilder();
+                Club club = lastShownClubList.get(clubIndex.getZeroBased());
+                String clubName = club.getName().toString();
+
+                for (Index personIndex : validPersons) {
+                    Person person = lastShownPersonList.get(personIndex.getZeroBased());
+                    String personName = person.getName().toString();
+
+                    // Check if membership doesn't exist
+                    Membership toRemove = new Membership(person, club, model.getToday());
+                    if (!model.hasMembership(toRemove)) {
+                        appendToMessage(outputMessageBuilder, MESSAGE_NOTEXIST_MEMBERSHIP, personName, clubName);
+                        continue; // Skip to the next person index
+                    }
+                    // Only add the person who are in the club to personNamesBuilder
+                    // for MESSAGE_REMOVED_FROM_CLUB message
+                    personNamesBuilder.append(personName).append(", ");
+
+                    club.removeMember(person);
+                    person.removeClub(club);
+                    // Model also keep track of memberships
+                    model.deleteMembership(toRemove);
                 }
-                // Only add the person who are in the club to personNamesBuilder
-                // for MESSAGE_REMOVED_FROM_CLUB message
-                personNamesBuilder.append(personName).append(", ");
-
-                club.removeMember(person);
-                person.removeClub(club);
-                // Model also keep track of memberships
-                model.deleteMembership(toRemove);
-            }
-            // Also handle the case where no new memberships were added
-            if (personNamesBuilder.length() == 0) {
-                continue; // No new members were added to this club
+                // Also handle the case where no new memberships were added
+                if (personNamesBuilder.length() == 0) {
+                    continue; // No new members were added to this club
+                }
+                // Remove the trailing comma and space
+                assert personNamesBuilder.length() >= 2;
+                personNamesBuilder.setLength(personNamesBuilder.length() - 2);
+                String personNames = personNamesBuilder.toString();
+                appendToMessage(outputMessageBuilder, MESSAGE_REMOVED_FROM_CLUB, personNames, clubName);
             }
-            // Remove the trailing comma and space
-            assert personNamesBuilder.length() >= 2;
-            personNamesBuilder.setLength(personNamesBuilder.length() - 2);
-            String personNames = personNamesBuilder.toString();
-            appendToMessage(outputMessageBuilder, MESSAGE_REMOVED_FROM_CLUB, personNames, clubName);
+        } finally {
+            model.commitBatch();
         }
         String outputMessage = outputMessageBuilder.toString();
         return new CommandResult(outputMessage);
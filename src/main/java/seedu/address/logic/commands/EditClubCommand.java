@@ -143,7 +143,7 @@ public class EditClubCommand extends Command {
         Address updatedAddress = editClubDescriptor.getAddress().orElse(clubToEdit.getAddress());
         Set<Tag> updatedTags = editClubDescriptor.getTags().orElse(clubToEdit.getTags());
 
-        return new Club(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedTags);
+        return new Club(clubToEdit.getId(), updatedName, updatedPhone, updatedEmail, updatedAddress, updatedTags);
     }
 
     @Override
@@ -1,10 +1,12 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.OPTION_EXPLAIN;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.search.CombinedSearchPredicate;
+import seedu.address.logic.search.SearchPlan;
 import seedu.address.logic.search.parsers.SearchParser;
 import seedu.address.model.Model;
 import seedu.address.model.club.Club;
@@ -20,23 +22,47 @@ public class FindClubCommand extends Command {
             + "): Find clubs that match all of "
             + "the specified search conditions and display them in the list on the left.\n"
             + SearchParser.MESSAGE_USAGE
+            + "Start with '" + OPTION_EXPLAIN + "' to also show how the search was run and how long it took.\n"
             + "Search Conditions: a/ - by address, e/ - by email, n/ - by name, p/ - by phone, t/ - by tag, "
             + "s/ - by existing member statuses (a, c, e, p)\n"
             + "Example: " + COMMAND_WORD + " n/ tennis basketball t/ school t/ evening"
             + " - searches for clubs tagged with 'school' and 'evening' that contain either 'tennis' or 'basketball'";
 
     private final CombinedSearchPredicate<Club> predicate;
+    private final boolean isExplained;
 
     public FindClubCommand(CombinedSearchPredicate<Club> predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a command that searches with {@code predicate}, and reports the search plan and its timing
+     * if {@code isExplained}.
+     */
+    public FindClubCommand(CombinedSearchPredicate<Club> predicate, boolean isExplained) {
         this.predicate = predicate;
+        this.isExplained = isExplained;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredClubList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_CLUBS_LISTED_OVERVIEW, model.getFilteredClubList().size()));
+        long start = System.nanoTime();
+        // Tag and substring conditions are answered from the indexes, so only their candidates are tested in full
+        SearchPlan<Club> plan = predicate.compile(
+                model::getIdsOfClubsTagged, model::getIdsOfClubsContaining, Club::getId);
+        long planned = System.nanoTime();
+        model.updateFilteredClubList(plan);
+        // Clubs added or edited from now on are not among the candidates, so they are tested in full
+        plan.release();
+        long filtered = System.nanoTime();
+
+        String message = String.format(Messages.MESSAGE_CLUBS_LISTED_OVERVIEW, model.getFilteredClubList().size());
+        if (isExplained) {
+            message += "\n" + plan.explain() + "\n" + String.format(Messages.MESSAGE_SEARCH_TIMING,
+                    (planned - start) / 1e6, (filtered - planned) / 1e6);
+        }
+        return new CommandResult(message);
     }
 
     @Override
@@ -51,13 +77,15 @@ public class FindClubCommand extends Command {
         }
 
         FindClubCommand otherListCommand = (FindClubCommand) other;
-        return predicate.equals(otherListCommand.predicate);
+        return predicate.equals(otherListCommand.predicate)
+                && isExplained == otherListCommand.isExplained;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("isExplained", isExplained)
                 .toString();
     }
 }
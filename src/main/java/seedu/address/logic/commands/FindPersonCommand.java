@@ -1,10 +1,12 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.OPTION_EXPLAIN;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.search.CombinedSearchPredicate;
+import seedu.address.logic.search.SearchPlan;
 import seedu.address.logic.search.parsers.SearchParser;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
@@ -20,15 +22,26 @@ public class FindPersonCommand extends Command {
             + "): Find persons that match all of "
             + "the specified search conditions and display them in the list on the right.\n"
             + SearchParser.MESSAGE_USAGE
+            + "Start with '" + OPTION_EXPLAIN + "' to also show how the search was run and how long it took.\n"
             + "Search Conditions: a/ - by address, e/ - by email, n/ - by name, p/ - by phone, t/ - by tag, "
             + "s/ - by existing membership statuses (a, c, e, p)\n"
             + "Example: " + COMMAND_WORD + " n/ alice bob t/ friend t/ paid"
             + " - searches for persons tagged as 'friend' and 'paid' with names containing 'alice' or 'bob'";
 
     private final CombinedSearchPredicate<Person> predicate;
+    private final boolean isExplained;
 
     public FindPersonCommand(CombinedSearchPredicate<Person> predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a command that searches with {@code predicate}, and reports the search plan and its timing
+     * if {@code isExplained}.
+     */
+    public FindPersonCommand(CombinedSearchPredicate<Person> predicate, boolean isExplained) {
         this.predicate = predicate;
+        this.isExplained = isExplained;
     }
 
     public CombinedSearchPredicate<Person> getPredicate() {
@@ -38,9 +51,22 @@ public class FindPersonCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+        long start = System.nanoTime();
+        // Tag and substring conditions are answered from the indexes, so only their candidates are tested in full
+        SearchPlan<Person> plan = predicate.compile(
+                model::getIdsOfPersonsTagged, model::getIdsOfPersonsContaining, Person::getId);
+        long planned = System.nanoTime();
+        model.updateFilteredPersonList(plan);
+        // Persons added or edited from now on are not among the candidates, so they are tested in full
+        plan.release();
+        long filtered = System.nanoTime();
+
+        String message = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size());
+        if (isExplained) {
+            message += "\n" + plan.explain() + "\n" + String.format(Messages.MESSAGE_SEARCH_TIMING,
+                    (planned - start) / 1e6, (filtered - planned) / 1e6);
+        }
+        return new CommandResult(message);
     }
 
     @Override
@@ -55,13 +81,15 @@ public class FindPersonCommand extends Command {
         }
 
         FindPersonCommand otherListCommand = (FindPersonCommand) other;
-        return predicate.equals(otherListCommand.predicate);
+        return predicate.equals(otherListCommand.predicate)
+                && isExplained == otherListCommand.isExplained;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("isExplained", isExplained)
                 .toString();
     }
 }
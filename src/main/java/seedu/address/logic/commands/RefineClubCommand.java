@@ -0,0 +1,64 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.search.CombinedSearchPredicate;
+import seedu.address.logic.search.parsers.SearchParser;
+import seedu.address.model.Model;
+import seedu.address.model.club.Club;
+
+/**
+ * Narrows the clubs listed to those that also match any number of search conditions.
+ */
+public class RefineClubCommand extends Command {
+    public static final String COMMAND_WORD = "refine_club";
+    public static final String COMMAND_SHORT = "refinec";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " (" + COMMAND_SHORT
+            + "): Keep only the clubs in the list on the left that also match all of "
+            + "the specified search conditions, so that a search can be narrowed step by step.\n"
+            + SearchParser.MESSAGE_USAGE
+            + "Search Conditions: a/ - by address, e/ - by email, n/ - by name, p/ - by phone, t/ - by tag, "
+            + "s/ - by existing member statuses (a, c, e, p)\n"
+            + "Example: " + COMMAND_WORD + " t/ paid s/ a"
+            + " - keeps the listed clubs that are tagged as 'paid' and have an active member";
+
+    private final CombinedSearchPredicate<Club> predicate;
+
+    public RefineClubCommand(CombinedSearchPredicate<Club> predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        // Only the clubs listed now are tested
+        model.refineFilteredClubList(predicate);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_CLUBS_LISTED_OVERVIEW, model.getFilteredClubList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RefineClubCommand)) {
+            return false;
+        }
+
+        RefineClubCommand otherRefineCommand = (RefineClubCommand) other;
+        return predicate.equals(otherRefineCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
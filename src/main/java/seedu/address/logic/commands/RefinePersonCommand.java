@@ -0,0 +1,64 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.search.CombinedSearchPredicate;
+import seedu.address.logic.search.parsers.SearchParser;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Narrows the persons listed to those that also match any number of search conditions.
+ */
+public class RefinePersonCommand extends Command {
+    public static final String COMMAND_WORD = "refine_person";
+    public static final String COMMAND_SHORT = "refinep";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " (" + COMMAND_SHORT
+            + "): Keep only the persons in the list on the right that also match all of "
+            + "the specified search conditions, so that a search can be narrowed step by step.\n"
+            + SearchParser.MESSAGE_USAGE
+            + "Search Conditions: a/ - by address, e/ - by email, n/ - by name, p/ - by phone, t/ - by tag, "
+            + "s/ - by existing membership statuses (a, c, e, p)\n"
+            + "Example: " + COMMAND_WORD + " t/ paid s/ a"
+            + " - keeps the listed persons that are tagged as 'paid' and have an active membership";
+
+    private final CombinedSearchPredicate<Person> predicate;
+
+    public RefinePersonCommand(CombinedSearchPredicate<Person> predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        // Only the persons listed now are tested
+        model.refineFilteredPersonList(predicate);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RefinePersonCommand)) {
+            return false;
+        }
+
+        RefinePersonCommand otherRefineCommand = (RefinePersonCommand) other;
+        return predicate.equals(otherRefineCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
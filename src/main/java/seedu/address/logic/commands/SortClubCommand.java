@@ -20,7 +20,7 @@ public class SortClubCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + " (" + COMMAND_SHORT
             + "): Sorts all clubs by "
             + "the specified fields (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: [n/] [p/] [e/] [a/] …\u200B\n"
+            + "Parameters: [n/] [p/] [e/] [a/] [m/] …\u200B\n"
             + "Example: " + COMMAND_WORD + " n/ p/";
 
     private final Comparator<Club> clubComparator;
@@ -13,6 +13,7 @@ import seedu.address.logic.commands.AddMembershipCommand;
 import seedu.address.logic.commands.AddPersonCommand;
 import seedu.address.logic.commands.CancelMembershipCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.CompactHistoryCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteClubCommand;
 import seedu.address.logic.commands.DeleteMembershipCommand;
@@ -32,6 +33,8 @@ import seedu.address.logic.commands.ListAllCommand;
 import seedu.address.logic.commands.MembershipClubCommand;
 import seedu.address.logic.commands.MembershipPersonCommand;
 import seedu.address.logic.commands.ReactivateMembershipCommand;
+import seedu.address.logic.commands.RefineClubCommand;
+import seedu.address.logic.commands.RefinePersonCommand;
 import seedu.address.logic.commands.RenewMembershipCommand;
 import seedu.address.logic.commands.SortClubCommand;
 import seedu.address.logic.commands.SortPersonCommand;
@@ -100,6 +103,12 @@ public class AddressBookParser {
         case FindPersonCommand.COMMAND_WORD, FindPersonCommand.COMMAND_SHORT:
             return new FindPersonCommandParser().parse(arguments);
 
+        case RefinePersonCommand.COMMAND_WORD, RefinePersonCommand.COMMAND_SHORT:
+            return new RefinePersonCommandParser().parse(arguments);
+
+        case RefineClubCommand.COMMAND_WORD, RefineClubCommand.COMMAND_SHORT:
+            return new RefineClubCommandParser().parse(arguments);
+
         case FilterPersonCommand.COMMAND_WORD, FilterPersonCommand.COMMAND_SHORT:
             return new FilterPersonCommandParser().parse(arguments);
 
@@ -139,6 +148,9 @@ public class AddressBookParser {
         case GetHistoryCommand.COMMAND_WORD, GetHistoryCommand.COMMAND_SHORT:
             return new GetHistoryCommandParser().parse(arguments);
 
+        case CompactHistoryCommand.COMMAND_WORD:
+            return new CompactHistoryCommand();
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
@@ -16,6 +16,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_DURATION = new Prefix("d/");
     public static final Prefix PREFIX_STATUS = new Prefix("s/");
 
+    /* Option definitions, given as the first word of the arguments */
+    public static final String OPTION_EXPLAIN = "explain";
+
     /* Field definitions */
     public static final String NAME = "n";
     public static final String PHONE = "p";
@@ -6,6 +6,7 @@ import java.util.List;
 /**
  * Maintains a list of previously entered commands and provides
  * methods to retrieve previous or next commands for navigation.
+ * Commands are added by the thread that parses them and read by the UI thread, so access is synchronized.
  */
 public class CommandList {
     private static final List<String> commandList = new ArrayList<>();
@@ -16,7 +17,7 @@ public class CommandList {
      *
      * @param args The command string to add.
      */
-    public static void addCommand(String args) {
+    public static synchronized void addCommand(String args) {
         commandList.add(args);
         currentCommand = commandList.size();
     }
@@ -26,7 +27,7 @@ public class CommandList {
      *
      * @return The previous command string.
      */
-    public static String getPrevCommand() {
+    public static synchronized String getPrevCommand() {
         if (commandList.size() == 0) {
             return "";
         }
@@ -44,7 +45,7 @@ public class CommandList {
      *
      * @return The next command string.
      */
-    public static String getNextCommand() {
+    public static synchronized String getNextCommand() {
         if (commandList.size() == 0) {
             return "";
         }
@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.OPTION_EXPLAIN;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
@@ -8,6 +9,8 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.Optional;
+
 import seedu.address.logic.commands.FindPersonCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.search.CombinedSearchPredicate;
@@ -26,17 +29,28 @@ public class FindPersonCommandParser implements Parser<FindPersonCommand> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the FindPersonCommand
-     * and returns a FindPersonCommand object for execution.
+     * and returns a FindPersonCommand object for execution. The search conditions may be preceded by
+     * the {@code explain} option.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindPersonCommand parse(String args) throws ParseException {
+        Optional<String> explainedArgs = ParserUtil.parseLeadingOption(args, OPTION_EXPLAIN);
+        return new FindPersonCommand(parseSearch(explainedArgs.orElse(args), FindPersonCommand.MESSAGE_USAGE),
+                explainedArgs.isPresent());
+    }
+
+    /**
+     * Parses the search conditions in {@code args}, as taken by the commands that search persons.
+     * @throws ParseException with {@code messageUsage} if the user input does not conform the expected format
+     */
+    static CombinedSearchPredicate<Person> parseSearch(String args, String messageUsage) throws ParseException {
         CombinedSearchPredicate<Person> predicate = new CombinedSearchPredicate<>();
 
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(
                 args, PREFIX_NAME, PREFIX_TAG, PREFIX_ADDRESS, PREFIX_EMAIL, PREFIX_PHONE, PREFIX_STATUS);
 
         if (!argMultimap.getPreamble().isEmpty()) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPersonCommand.MESSAGE_USAGE));
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage));
         }
 
         for (String prefix : argMultimap.getAllValues(PREFIX_NAME)) {
@@ -58,7 +72,7 @@ public class FindPersonCommandParser implements Parser<FindPersonCommand> {
             predicate.add(new StatusParser<Person>().parse(prefix));
         }
 
-        return new FindPersonCommand(predicate);
+        return predicate;
     }
 
 }
@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
@@ -39,6 +40,20 @@ public class ParserUtil {
         }
     }
 
+    /**
+     * Returns the rest of {@code args} if its first word is {@code option}, ignoring case,
+     * or an empty {@code Optional} if it is not. The rest keeps its leading whitespace, so that it can be tokenized.
+     */
+    public static Optional<String> parseLeadingOption(String args, String option) {
+        requireNonNull(args);
+        requireNonNull(option);
+        String[] firstWordAndRest = args.strip().split("\\s+", 2);
+        if (!firstWordAndRest[0].equalsIgnoreCase(option)) {
+            return Optional.empty();
+        }
+        return Optional.of(firstWordAndRest.length == 2 ? " " + firstWordAndRest[1] : "");
+    }
+
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
      * stripped.
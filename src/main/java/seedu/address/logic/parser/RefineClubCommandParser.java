@@ -0,0 +1,19 @@
+package seedu.address.logic.parser;
+
+import seedu.address.logic.commands.RefineClubCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RefineClubCommand object
+ */
+public class RefineClubCommandParser implements Parser<RefineClubCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RefineClubCommand
+     * and returns a RefineClubCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RefineClubCommand parse(String args) throws ParseException {
+        return new RefineClubCommand(FindClubCommandParser.parseSearch(args, RefineClubCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,19 @@
+package seedu.address.logic.parser;
+
+import seedu.address.logic.commands.RefinePersonCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RefinePersonCommand object
+ */
+public class RefinePersonCommandParser implements Parser<RefinePersonCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RefinePersonCommand
+     * and returns a RefinePersonCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RefinePersonCommand parse(String args) throws ParseException {
+        return new RefinePersonCommand(FindPersonCommandParser.parseSearch(args, RefinePersonCommand.MESSAGE_USAGE));
+    }
+}
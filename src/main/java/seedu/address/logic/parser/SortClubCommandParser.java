@@ -4,7 +4,6 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.util.Arrays;
 import java.util.Comparator;
-import java.util.function.Function;
 
 import seedu.address.logic.commands.SortClubCommand;
 import seedu.address.logic.commands.SortPersonCommand;
@@ -34,24 +33,29 @@ public class SortClubCommandParser implements Parser<SortClubCommand> {
     private Comparator<Club> getClubComparator(String[] clubFields) {
         return Arrays.stream(clubFields)
                 .map(String::toLowerCase)
-                .map(SortClubCommandParser::fieldToKey)
-                .map(Comparator::comparing)
+                .map(SortClubCommandParser::fieldToComparator)
                 .reduce(Comparator::thenComparing) // chain comparators
                 .orElse(null); // return null if no valid fields
     }
 
-    private static Function<Club, Comparable> fieldToKey(String field) {
+    /**
+     * Returns the comparator for {@code field}. The fields compare by keys they precompute when created,
+     * so comparing two clubs does not allocate.
+     */
+    private static Comparator<Club> fieldToComparator(String field) {
         switch (field.toLowerCase()) {
         case "n/":
-            return Club::getName;
+            return Comparator.comparing(Club::getName);
         case "p/":
-            return Club::getPhone;
+            return Comparator.comparing(Club::getPhone);
         case "e/":
-            return Club::getEmail;
+            return Comparator.comparing(Club::getEmail);
         case "a/":
-            return Club::getAddress;
+            return Comparator.comparing(Club::getAddress);
+        case "m/":
+            return Comparator.comparingInt(Club::getMemberCount);
         default:
-            return p -> "";
+            return (first, second) -> 0;
         }
     }
 }
@@ -4,7 +4,6 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.util.Arrays;
 import java.util.Comparator;
-import java.util.function.Function;
 
 import seedu.address.logic.commands.SortPersonCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -33,24 +32,27 @@ public class SortPersonCommandParser implements Parser<SortPersonCommand> {
     private Comparator<Person> getPersonComparator(String[] personFields) {
         return Arrays.stream(personFields)
                 .map(String::toLowerCase)
-                .map(SortPersonCommandParser::fieldToKey)
-                .map(Comparator::comparing)
+                .map(SortPersonCommandParser::fieldToComparator)
                 .reduce(Comparator::thenComparing) // chain comparators
                 .orElse(null); // return null if no valid fields
     }
 
-    private static Function<Person, Comparable> fieldToKey(String field) {
+    /**
+     * Returns the comparator for {@code field}. The fields compare by keys they precompute when created,
+     * so comparing two persons does not allocate.
+     */
+    private static Comparator<Person> fieldToComparator(String field) {
         switch (field.toLowerCase()) {
         case "n/":
-            return Person::getName;
+            return Comparator.comparing(Person::getName);
         case "p/":
-            return Person::getPhone;
+            return Comparator.comparing(Person::getPhone);
         case "e/":
-            return Person::getEmail;
+            return Comparator.comparing(Person::getEmail);
         case "a/":
-            return Person::getAddress;
+            return Comparator.comparing(Person::getAddress);
         default:
-            return p -> "";
+            return (first, second) -> 0;
         }
     }
 }
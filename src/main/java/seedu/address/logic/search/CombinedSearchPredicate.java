@@ -1,29 +1,117 @@
 package seedu.address.logic.search;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+import seedu.address.logic.search.predicates.SubstringMatchPredicate;
+import seedu.address.logic.search.predicates.TagsMatchPredicate;
+import seedu.address.model.field.SearchField;
+import seedu.address.model.util.RefinablePredicate;
 
 /**
  * Stores a list of <code>Predicate</code> objects of the parameterized type
- * and chains them using the and operator when testing
+ * and chains them using the and operator when testing.
+ * The conditions are tested in the order of a {@link SearchPlan}, which is worked out as they are added.
  * @param <T> parameterized type of Predicate objects accepted
  */
-public class CombinedSearchPredicate<T> implements Predicate<T> {
+public class CombinedSearchPredicate<T> implements RefinablePredicate<T> {
     private final List<Predicate<T>> predicates = new ArrayList<>();
+    private List<Predicate<T>> steps = List.of();
 
     /**
      * Adds a <code>Predicate</code> object of the specified type to the list
      */
     public void add(Predicate<T> predicate) {
         this.predicates.add(predicate);
+        this.steps = SearchPlan.orderSteps(predicates);
+    }
+
+    /**
+     * Returns the plan of this search, which accepts the same objects but first rejects any object whose id is
+     * not among the candidates of every condition that an index can answer. {@code lookUpTagged} maps a set of
+     * tag key numbers to the ids of the objects carrying any of those tags, as kept by a tag index.
+     * {@code lookUpContaining} maps a field and a keyword to the ids of the objects whose field may contain
+     * the keyword, as kept by a substring index, or to an empty {@code Optional} if the keyword is too short.
+     * The candidates only hold for the objects as they are when this method is called, so the plan must be
+     * released with {@link SearchPlan#release()} once it has filtered them.
+     */
+    public SearchPlan<T> compile(Function<BitSet, Set<Long>> lookUpTagged,
+            BiFunction<SearchField, String, Optional<Set<Long>>> lookUpContaining, ToLongFunction<T> idOf) {
+        List<Set<Long>> postings = new ArrayList<>();
+        List<String> sources = new ArrayList<>();
+        for (Predicate<T> predicate : predicates) {
+            if (predicate instanceof TagsMatchPredicate<?>) {
+                Set<Long> ids = lookUpTagged.apply(((TagsMatchPredicate<?>) predicate).getTagKeyIds());
+                postings.add(ids);
+                sources.add("tag index " + ids.size());
+            } else if (predicate instanceof SubstringMatchPredicate) {
+                SubstringMatchPredicate substringPredicate = (SubstringMatchPredicate) predicate;
+                lookUpContainingAny(substringPredicate, lookUpContaining).ifPresent(ids -> {
+                    postings.add(ids);
+                    sources.add(substringPredicate.getField().name().toLowerCase() + " index " + ids.size());
+                });
+            }
+        }
+        if (postings.isEmpty()) {
+            return new SearchPlan<>(this, steps, null, idOf, sources);
+        }
+
+        // Intersect starting from the shortest posting list, so that the candidate set only shrinks
+        postings.sort(Comparator.comparingInt(Set::size));
+        Set<Long> candidates = new HashSet<>(postings.get(0));
+        for (int i = 1; i < postings.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(postings.get(i));
+        }
+        return new SearchPlan<>(this, steps, candidates, idOf, sources);
+    }
+
+    /**
+     * Returns the ids of the objects that may contain any keyword of {@code predicate}, or an empty
+     * {@code Optional} if some keyword cannot be looked up, in which case any object may match.
+     */
+    private static Optional<Set<Long>> lookUpContainingAny(SubstringMatchPredicate predicate,
+            BiFunction<SearchField, String, Optional<Set<Long>>> lookUpContaining) {
+        Set<Long> ids = new HashSet<>();
+        for (String keyword : predicate.getKeywords()) {
+            Optional<Set<Long>> keywordIds = lookUpContaining.apply(predicate.getField(), keyword);
+            if (keywordIds.isEmpty()) {
+                return Optional.empty();
+            }
+            ids.addAll(keywordIds.get());
+        }
+        return Optional.of(ids);
+    }
+
+    /**
+     * Returns true if {@code other} is a search, or the plan of one, whose conditions are all
+     * conditions of this search too. As the conditions are joined with and, this search accepts no more.
+     */
+    @Override
+    public boolean refines(Predicate<?> other) {
+        if (other instanceof SearchPlan<?>) {
+            other = ((SearchPlan<?>) other).getSearch();
+        }
+        return other instanceof CombinedSearchPredicate<?>
+                && predicates.containsAll(((CombinedSearchPredicate<?>) other).predicates);
     }
 
     @Override
     public boolean test(T obj) {
-        Optional<Predicate<T>> predicate = predicates.stream().reduce(Predicate::and);
-        return predicate.map(p -> p.test(obj)).orElse(true);
+        for (int i = 0; i < steps.size(); i++) {
+            if (!steps.get(i).test(obj)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -40,5 +128,4 @@ public class CombinedSearchPredicate<T> implements Predicate<T> {
         CombinedSearchPredicate<?> otherCombinedSearchPredicate = (CombinedSearchPredicate<?>) other;
         return predicates.equals(otherCombinedSearchPredicate.predicates);
     }
-
 }
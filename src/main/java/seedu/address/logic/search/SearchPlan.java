@@ -0,0 +1,147 @@
+package seedu.address.logic.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+import seedu.address.logic.search.predicates.PhoneMatchesPredicate;
+import seedu.address.logic.search.predicates.StatusesMatchPredicate;
+import seedu.address.logic.search.predicates.SubstringMatchPredicate;
+import seedu.address.logic.search.predicates.TagsMatchPredicate;
+import seedu.address.model.util.RefinablePredicate;
+
+/**
+ * The flat evaluation plan of a {@code CombinedSearchPredicate}. An object passes if its id is among the
+ * candidates the indexes returned for the search, if any, and then if it passes every condition, which are
+ * checked from the cheapest and most selective to the costliest, stopping at the first that fails.
+ *
+ * The candidates only hold for the objects as they were when the plan was made, so the plan must be
+ * {@linkplain #release() released} once it has filtered them. Objects added or edited after that are checked
+ * against every condition.
+ */
+public class SearchPlan<T> implements RefinablePredicate<T> {
+
+    private final CombinedSearchPredicate<T> search;
+    private final List<Predicate<T>> steps;
+    // Null if no condition could be looked up in an index
+    private final Set<Long> candidates;
+    private final ToLongFunction<T> idOf;
+    private final List<String> candidateSources;
+    private boolean isReleased;
+
+    SearchPlan(CombinedSearchPredicate<T> search, List<Predicate<T>> steps, Set<Long> candidates,
+               ToLongFunction<T> idOf, List<String> candidateSources) {
+        this.search = search;
+        this.steps = steps;
+        this.candidates = candidates;
+        this.idOf = idOf;
+        this.candidateSources = candidateSources;
+    }
+
+    /**
+     * Returns {@code conditions} in the order a plan checks them: by the cost class of each condition,
+     * then by its number of keywords, as each keyword is another way to pass. Ties keep their given order.
+     */
+    static <T> List<Predicate<T>> orderSteps(List<Predicate<T>> conditions) {
+        List<Predicate<T>> steps = new ArrayList<>(conditions);
+        steps.sort(Comparator.<Predicate<T>>comparingInt(step -> StepKind.of(step).ordinal())
+                .thenComparingInt(SearchPlan::keywordCount));
+        return List.copyOf(steps);
+    }
+
+    private static int keywordCount(Predicate<?> step) {
+        return step instanceof SubstringMatchPredicate ? ((SubstringMatchPredicate) step).getKeywords().size() : 0;
+    }
+
+    /**
+     * Stops using the candidates, so that from now on every object is checked against every condition.
+     */
+    public void release() {
+        isReleased = true;
+    }
+
+    @Override
+    public boolean test(T obj) {
+        if (!isReleased && candidates != null && !candidates.contains(idOf.applyAsLong(obj))) {
+            return false;
+        }
+        for (int i = 0; i < steps.size(); i++) {
+            if (!steps.get(i).test(obj)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean refines(Predicate<?> other) {
+        return search.refines(other);
+    }
+
+    CombinedSearchPredicate<T> getSearch() {
+        return search;
+    }
+
+    /**
+     * Returns a readable description of this plan, one line per stage.
+     */
+    public String explain() {
+        StringBuilder explanation = new StringBuilder("Plan:");
+        if (candidates == null) {
+            explanation.append("\n  Candidates: all (no condition is indexed)");
+        } else {
+            explanation.append("\n  Candidates: ").append(String.join(" and ", candidateSources))
+                    .append(" -> ").append(candidates.size()).append(" ids");
+        }
+        if (steps.isEmpty()) {
+            explanation.append("\n  No conditions to check");
+        }
+        for (int i = 0; i < steps.size(); i++) {
+            Predicate<T> step = steps.get(i);
+            explanation.append("\n  ").append(i + 1).append(". ").append(describe(step))
+                    .append(" (").append(StepKind.of(step).description).append(")");
+        }
+        return explanation.toString();
+    }
+
+    private static String describe(Predicate<?> step) {
+        Class<?> stepClass = step.getClass();
+        return stepClass.getCanonicalName() == null
+                ? stepClass.getSimpleName()
+                : step.toString().replace(stepClass.getCanonicalName(), stepClass.getSimpleName());
+    }
+
+    /**
+     * The cost classes of conditions, from the cheapest to check.
+     */
+    private enum StepKind {
+        TAG("one bitwise AND of tag keys"),
+        STATUS("scan of membership statuses"),
+        PHONE("substring of the phone"),
+        SUBSTRING("substring of a text field"),
+        OTHER("unknown cost");
+
+        private final String description;
+
+        StepKind(String description) {
+            this.description = description;
+        }
+
+        static StepKind of(Predicate<?> step) {
+            if (step instanceof TagsMatchPredicate<?>) {
+                return TAG;
+            } else if (step instanceof StatusesMatchPredicate<?>) {
+                return STATUS;
+            } else if (step instanceof PhoneMatchesPredicate<?>) {
+                return PHONE;
+            } else if (step instanceof SubstringMatchPredicate) {
+                return SUBSTRING;
+            } else {
+                return OTHER;
+            }
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package seedu.address.logic.search;
 
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.model.field.SearchProjection;
+
 /**
  * Class containing utility methods for searching
  */
@@ -12,8 +17,31 @@ public class SearchUtil {
         if (keyword == null || field == null) {
             return false;
         } else {
-            return field.toLowerCase().contains(keyword.toLowerCase());
+            return SearchProjection.normalize(field).contains(SearchProjection.normalize(keyword));
         }
     }
 
+    /**
+     * Returns the non-null {@code keywords} in the form of a {@code SearchProjection}, to be matched
+     * with {@link #containsAny(String, List)}.
+     */
+    public static List<String> normalizeAll(List<String> keywords) {
+        return keywords.stream()
+                .filter(Objects::nonNull)
+                .map(SearchProjection::normalize)
+                .toList();
+    }
+
+    /**
+     * Returns true if the projected field {@code normalizedField} contains any of {@code normalizedKeywords}.
+     * Does not allocate, so that it can be called for every person or club of a search.
+     */
+    public static boolean containsAny(String normalizedField, List<String> normalizedKeywords) {
+        for (int i = 0; i < normalizedKeywords.size(); i++) {
+            if (normalizedField.contains(normalizedKeywords.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
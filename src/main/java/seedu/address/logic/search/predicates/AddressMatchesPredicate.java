@@ -1,27 +1,43 @@
 package seedu.address.logic.search.predicates;
 
-import static seedu.address.logic.search.SearchUtil.containsSubstring;
+import static seedu.address.logic.search.SearchUtil.containsAny;
+import static seedu.address.logic.search.SearchUtil.normalizeAll;
 
 import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.field.SearchField;
 import seedu.address.model.field.Searchable;
 
 /**
  * Tests that a {@code Searchable}'s {@code Address} matches any of the keywords given.
  */
-public class AddressMatchesPredicate<T extends Searchable> implements Predicate<T> {
+public class AddressMatchesPredicate<T extends Searchable> implements Predicate<T>, SubstringMatchPredicate {
     private final List<String> keywords;
+    private final List<String> normalizedKeywords;
 
+    /**
+     * Creates a predicate matching searchables whose address contains any of {@code keywords}, ignoring case.
+     */
     public AddressMatchesPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.normalizedKeywords = normalizeAll(keywords);
+    }
+
+    @Override
+    public SearchField getField() {
+        return SearchField.ADDRESS;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Searchable searchable) {
-        return keywords.stream()
-                .anyMatch(keyword -> containsSubstring(keyword, searchable.getAddress().value));
+        return containsAny(searchable.getSearchProjection().address, normalizedKeywords);
     }
 
     @Override
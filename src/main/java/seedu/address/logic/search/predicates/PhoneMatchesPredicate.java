@@ -1,11 +1,14 @@
 package seedu.address.logic.search.predicates;
 
-import static seedu.address.logic.search.SearchUtil.containsSubstring;
+import static seedu.address.logic.search.SearchUtil.containsAny;
+import static seedu.address.logic.search.SearchUtil.normalizeAll;
+import static seedu.address.model.field.SearchProjection.digitsOf;
 
 import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.field.SearchProjection;
 import seedu.address.model.field.Searchable;
 
 /**
@@ -13,15 +16,36 @@ import seedu.address.model.field.Searchable;
  */
 public class PhoneMatchesPredicate<T extends Searchable> implements Predicate<T> {
     private final List<String> keywords;
+    private final List<String> normalizedKeywords;
+    // Digits of the keywords without letters, matched against the digits of the phone, or empty strings
+    private final List<String> keywordDigits;
 
+    /**
+     * Creates a predicate matching searchables whose phone contains any of {@code keywords}, ignoring case.
+     * A keyword with digits but no letters also matches a phone with those digits in a row, whatever
+     * separates them, e.g. "91234567" matches "9123 4567".
+     */
     public PhoneMatchesPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.normalizedKeywords = normalizeAll(keywords);
+        this.keywordDigits = normalizedKeywords.stream()
+                .map(keyword -> keyword.chars().anyMatch(Character::isLetter) ? "" : digitsOf(keyword))
+                .toList();
     }
 
     @Override
     public boolean test(Searchable searchable) {
-        return keywords.stream()
-                .anyMatch(keyword -> containsSubstring(keyword, searchable.getPhone().value));
+        SearchProjection projection = searchable.getSearchProjection();
+        if (containsAny(projection.phone, normalizedKeywords)) {
+            return true;
+        }
+        for (int i = 0; i < keywordDigits.size(); i++) {
+            String digits = keywordDigits.get(i);
+            if (!digits.isEmpty() && projection.phoneDigits.contains(digits)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
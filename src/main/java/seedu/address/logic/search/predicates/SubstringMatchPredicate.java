@@ -0,0 +1,16 @@
+package seedu.address.logic.search.predicates;
+
+import java.util.List;
+
+import seedu.address.model.field.SearchField;
+
+/**
+ * A search condition met by a {@code Searchable} whose text in one {@code SearchField} contains any of
+ * the keywords, ignoring case, so that its candidates can be looked up in a substring index.
+ */
+public interface SubstringMatchPredicate {
+
+    SearchField getField();
+
+    List<String> getKeywords();
+}
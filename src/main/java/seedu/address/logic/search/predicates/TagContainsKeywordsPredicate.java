@@ -1,8 +1,7 @@
 package seedu.address.logic.search.predicates;
 
-import static seedu.address.logic.search.SearchUtil.containsSubstring;
-
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -13,15 +12,29 @@ import seedu.address.model.tag.Tag;
  */
 public class TagContainsKeywordsPredicate implements Predicate<Tag> {
     private final List<String> keywords;
+    private final List<String> lowerCaseKeywords;
 
+    /**
+     * Creates a predicate matching tags that contain any of {@code keywords}, ignoring case.
+     */
     public TagContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.lowerCaseKeywords = keywords.stream()
+                .filter(Objects::nonNull)
+                .map(String::toLowerCase)
+                .toList();
     }
 
     @Override
     public boolean test(Tag tag) {
-        return keywords.stream()
-                .anyMatch(keyword -> containsSubstring(keyword, tag.tagName));
+        return testKey(tag.getKey());
+    }
+
+    /**
+     * Returns true if the lower-cased tag name {@code tagKey} contains any of the keywords.
+     */
+    boolean testKey(String tagKey) {
+        return lowerCaseKeywords.stream().anyMatch(tagKey::contains);
     }
 
     @Override
@@ -1,24 +1,54 @@
 package seedu.address.logic.search.predicates;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.field.Searchable;
+import seedu.address.model.tag.TagRegistry;
 
 /**
  * Tests that a {@code Searchable}'s {@code Tag}s match any of the keywords given.
  */
 public class TagsMatchPredicate<T extends Searchable> implements Predicate<T> {
     private final List<String> keywords;
+    private final TagContainsKeywordsPredicate tagPredicate;
 
+    // Numbers of the registered tag keys that match, so that each record is tested with one bitwise AND
+    private final BitSet matchingKeyIds = new BitSet();
+    private int keysScanned;
+
+    /**
+     * Creates a predicate matching entities with a tag that contains any of {@code keywords}.
+     */
     public TagsMatchPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.tagPredicate = new TagContainsKeywordsPredicate(keywords);
     }
 
     @Override
     public boolean test(Searchable searchable) {
-        return searchable.getTags().stream().anyMatch(new TagContainsKeywordsPredicate(keywords));
+        return searchable.getTags().intersectsKeys(getMatchingKeyIds());
+    }
+
+    /**
+     * Returns the numbers of the tag keys that contain a keyword, so that callers can look up
+     * matching entities in a tag index.
+     */
+    public BitSet getTagKeyIds() {
+        return (BitSet) getMatchingKeyIds().clone();
+    }
+
+    /**
+     * Returns the numbers of the tag keys that contain a keyword, first matching any keys
+     * registered since the last call.
+     */
+    private synchronized BitSet getMatchingKeyIds() {
+        if (keysScanned < TagRegistry.keyCount()) {
+            keysScanned = TagRegistry.collectKeys(keysScanned, tagPredicate::testKey, matchingKeyIds);
+        }
+        return matchingKeyIds;
     }
 
     @Override
@@ -1,12 +1,17 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
-import java.util.Comparator;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -14,12 +19,17 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.club.Club;
 import seedu.address.model.club.UniqueClubList;
+import seedu.address.model.club.exceptions.DuplicateClubException;
 import seedu.address.model.field.Email;
 import seedu.address.model.field.Name;
+import seedu.address.model.field.SearchField;
 import seedu.address.model.membership.Membership;
+import seedu.address.model.membership.MembershipStatus;
 import seedu.address.model.membership.UniqueMembershipList;
+import seedu.address.model.membership.exceptions.DuplicateMembershipException;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.util.SampleDataUtil;
 
 /**
@@ -28,12 +38,17 @@ import seedu.address.model.util.SampleDataUtil;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    public static final String MESSAGE_MEMBERSHIP_NOT_FOUND = "Membership does not exist.";
+
     private final Logger logger = LogsCenter.getLogger(AddressBook.class);
 
     private final UniquePersonList persons;
     private final UniqueClubList clubs;
     private final UniqueMembershipList memberships;
 
+    // Decides what "today" is for membership changes made through this address book
+    private Clock clock = Clock.systemDefaultZone();
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -51,6 +66,14 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     }
 
+    /**
+     * Creates an empty AddressBook that takes the current date from {@code clock}.
+     */
+    public AddressBook(Clock clock) {
+        requireNonNull(clock);
+        this.clock = clock;
+    }
+
     /**
      * Creates an AddressBook using the Persons in the {@code toBeCopied}
      */
@@ -59,6 +82,15 @@ public class AddressBook implements ReadOnlyAddressBook {
         resetData(toBeCopied);
     }
 
+    /**
+     * Creates an AddressBook using the Persons in the {@code toBeCopied}, that takes the current date
+     * from {@code clock}.
+     */
+    public AddressBook(ReadOnlyAddressBook toBeCopied, Clock clock) {
+        this(clock);
+        resetData(toBeCopied);
+    }
+
     //// list overwrite operations
 
     /**
@@ -77,18 +109,44 @@ public class AddressBook implements ReadOnlyAddressBook {
         this.clubs.setClubs(clubs);
     }
 
+    /**
+     * Replaces the contents of the membership list with {@code memberships}.
+     * {@code memberships} must not contain duplicate memberships.
+     */
     public void setMemberships(List<Membership> memberships) {
         this.memberships.setMemberships(memberships);
     }
+
+    /**
+     * Replaces all data of this {@code AddressBook} with the given persons, clubs and memberships.
+     * Each list is checked for duplicates in a single hash pass before anything is replaced, so
+     * the address book is left unchanged if any list contains duplicates.
+     *
+     * @throws DuplicatePersonException listing every duplicate person, if there are any.
+     * @throws DuplicateClubException listing every duplicate club, if there are any.
+     * @throws DuplicateMembershipException listing every duplicate membership, if there are any.
+     */
+    public void loadData(List<Person> persons, List<Club> clubs, List<Membership> memberships) {
+        UniquePersonList newPersons = new UniquePersonList();
+        newPersons.setPersons(persons);
+        UniqueClubList newClubs = new UniqueClubList();
+        newClubs.setClubs(clubs);
+        UniqueMembershipList newMemberships = new UniqueMembershipList();
+        newMemberships.setMemberships(memberships);
+
+        // The new lists are not used again, so their indexes are taken over rather than built twice
+        this.persons.takePersons(newPersons);
+        this.clubs.takeClubs(newClubs);
+        this.memberships.setMemberships(newMemberships);
+    }
+
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
-        setClubs(newData.getClubList());
-        setMemberships(newData.getMembershipList());
+        loadData(newData.getPersonList(), newData.getClubList(), newData.getMembershipList());
 
         if (!validatePersonList(newData.getPersonList()) || !validateClubList(newData.getClubList()) ) {
             clearAllData();
@@ -111,9 +169,10 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     // This method is for private testing purposes, do not remove.
     private void resetToDummyData() {
-        setPersons(SampleDataUtil.getSampleAddressBook().getPersonList());
-        setClubs(SampleDataUtil.getSampleAddressBook().getClubList());
-        setMemberships(SampleDataUtil.getSampleAddressBook().getMembershipList());
+        ReadOnlyAddressBook sampleAddressBook = SampleDataUtil.getSampleAddressBook(getToday());
+        setPersons(sampleAddressBook.getPersonList());
+        setClubs(sampleAddressBook.getClubList());
+        setMemberships(sampleAddressBook.getMembershipList());
     }
 
     //// club-level operations
@@ -164,35 +223,12 @@ public class AddressBook implements ReadOnlyAddressBook {
             return;
         }
 
-        List<Membership> owned = memberships.asUnmodifiableObservableList().stream()
-                .filter(m -> m.getPerson().equals(target))
-                .toList();
-
-        // For each old membership, create an equivalent that points to editedPerson
-        for (Membership oldM : owned) {
-            Membership newM = new Membership(
-                    editedPerson,
-                    oldM.getClub(),
-                    oldM.getJoinDate(),
-                    oldM.getExpiryDate(),
-                    new ArrayList<>(oldM.getMembershipEventHistory()),
-                    oldM.getStatus()
-            );
-
-            memberships.setMembership(oldM, newM);
-            oldM.getClub().removeMember(target); // removes oldM
-            oldM.getClub().addMembership(newM); // add the rebuilt membership to the club
-
-            // Attach the rebuilt membership to the edited person
-            editedPerson.removeClub(newM.getClub());
-            editedPerson.addMembership(newM);
-
-            // Detach the old membership object from the old person
-            target.removeMembership(oldM);
-        }
-
-        // Finally, replace the Person in the person list
         persons.setPerson(target, editedPerson);
+
+        // Memberships keep their identity, only the person they point to changes
+        List<Membership> relinked = memberships.relinkPerson(target, editedPerson);
+        editedPerson.getMemberships().addAll(relinked);
+        target.getMemberships().removeAll(identitySetOf(relinked));
     }
 
 
@@ -208,39 +244,23 @@ public class AddressBook implements ReadOnlyAddressBook {
             return;
         }
 
-        List<Membership> owned = memberships.asUnmodifiableObservableList().stream()
-                .filter(m -> m.getClub().equals(target))
-                .toList();
-
-        // For each old membership, create an equivalent that points to editedClub
-        for (Membership oldM : owned) {
-            Membership newM = new Membership(
-                    oldM.getPerson(),
-                    editedClub,
-                    oldM.getJoinDate(),
-                    oldM.getExpiryDate(),
-                    new ArrayList<>(oldM.getMembershipEventHistory()),
-                    oldM.getStatus()
-            );
-
-            memberships.setMembership(oldM, newM);
-
-
-            oldM.getClub().addMembership(newM); // add the rebuilt membership to the club
+        clubs.setClub(target, editedClub);
 
-            oldM.getPerson().removeClub(target); // removes oldM
-            target.removeMember(oldM.getPerson()); // removes oldM link on the club side
+        // Memberships keep their identity, only the club they point to changes
+        List<Membership> relinked = memberships.relinkClub(target, editedClub);
+        editedClub.getMemberships().addAll(relinked);
+        target.getMemberships().removeAll(identitySetOf(relinked));
+        // The members now show the edited club's name
+        relinked.forEach(membership -> membership.getPerson().refreshMembership(membership));
+    }
 
-            // Attach rebuilt membership to both sides
-            newM.getPerson().addMembership(newM);
-            editedClub.addMembership(newM);
-        }
 
-        // Finally, replace the Club in the club list
-        clubs.setClub(target, editedClub);
+    private static Set<Membership> identitySetOf(List<Membership> memberships) {
+        Set<Membership> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        set.addAll(memberships);
+        return set;
     }
 
-
     //// membership-level operation
 
     /**
@@ -261,17 +281,17 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.getPersonByEmail(email); // Delegate this call to UniquePersonList
     }
 
-    //todo: handle exception when membership not found
     /**
      * Renews the membership of a person in a club for the specified duration.
      *
      * @param person The person whose membership is to be renewed.
      * @param club The club for which the membership is to be renewed.
      * @param durationInMonths The duration in months for which the membership is to be renewed.
+     * @throws IllegalArgumentException if the person has no membership in the club.
      */
     public void renewMembership(Person person, Club club, int durationInMonths) {
-        Membership membership = memberships.getMembershipByPersonClub(person, club).get();
-        membership.renew(durationInMonths);
+        Membership membership = getExistingMembership(person, club);
+        membership.renew(durationInMonths, getToday());
     }
 
     /**
@@ -279,10 +299,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      *
      * @param person The person whose membership is to be cancelled.
      * @param club The club for which the membership is to be cancelled.
+     * @throws IllegalArgumentException if the person has no membership in the club.
      */
     public void cancelMembership(Person person, Club club) {
-        Membership membership = memberships.getMembershipByPersonClub(person, club).get();
-        membership.cancel();
+        Membership membership = getExistingMembership(person, club);
+        membership.cancel(getToday());
     }
 
     /**
@@ -291,23 +312,98 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @param person The person whose membership is to be reactivated.
      * @param club The club for which the membership is to be reactivated.
      * @param durationInMonths The duration in months for which the membership is to be reactivated.
+     * @throws IllegalArgumentException if the person has no membership in the club.
      */
     public void reactivateMembership(Person person, Club club, int durationInMonths) {
-        Membership membership = memberships.getMembershipByPersonClub(person, club).get();
-        membership.reactivate(durationInMonths);
+        Membership membership = getExistingMembership(person, club);
+        membership.reactivate(durationInMonths, getToday());
+        memberships.reschedule(membership);
+    }
+
+    private Membership getExistingMembership(Person person, Club club) {
+        return memberships.getMembershipByPersonClub(person, club)
+                .orElseThrow(() -> new IllegalArgumentException(MESSAGE_MEMBERSHIP_NOT_FOUND));
     }
 
     /**
      * This method should be run once per day to update the status
      * of all memberships in the system.
+     * Only the memberships whose expiry date has passed are visited.
      */
     public void updateMembershipStatus() {
-        // todo: use a logger instead of System.out.println
-        logger.info("Performing membership status update...");
-        for (Membership m : memberships) {
-            m.updateStatus();
-        }
-        logger.info("Membership status update completed.");
+        updateMembershipStatus(getToday());
+    }
+
+    /**
+     * Updates the status of every membership as of {@code today}, and returns the number of
+     * memberships that changed status.
+     * Only the memberships whose expiry date is before {@code today} are visited.
+     */
+    public int updateMembershipStatus(LocalDate today) {
+        requireNonNull(today);
+        logger.info("Performing membership status update as of " + today + "...");
+        int updated = memberships.updateStatuses(today);
+        logger.info("Membership status update completed, " + updated + " membership(s) changed status.");
+        return updated;
+    }
+
+    /**
+     * Takes the memberships due for a status update as of {@code today} off the expiry queue, and returns
+     * them without changing them. Each must then be updated with {@link Membership#updateStatus(LocalDate)}.
+     */
+    public List<Membership> takeMembershipsDue(LocalDate today) {
+        requireNonNull(today);
+        return memberships.takeDue(today);
+    }
+
+    /**
+     * Folds the renewals and reactivations dated before {@code cutoff} in every membership history into a
+     * summary event, and returns the number of events removed.
+     */
+    public int compactMembershipHistory(LocalDate cutoff) {
+        requireNonNull(cutoff);
+        int removed = memberships.compactHistories(cutoff);
+        logger.info("Membership history compaction before " + cutoff + " removed " + removed + " event(s).");
+        return removed;
+    }
+
+    /**
+     * Holds back memberships added from now on from {@link #getMembershipList()} until {@link #endBatch()}.
+     */
+    public void beginBatch() {
+        memberships.beginBatch();
+    }
+
+    /**
+     * Appends the memberships added since {@link #beginBatch()} to {@link #getMembershipList()} in one change.
+     */
+    public void endBatch() {
+        memberships.endBatch();
+    }
+
+    /**
+     * Reports the persons and clubs whose memberships changed since the last call to observers of
+     * {@link #getPersonList()} and {@link #getClubList()}, as one change per list.
+     */
+    public void flushUpdates() {
+        persons.flushUpdates();
+        clubs.flushUpdates();
+    }
+
+    /**
+     * Returns the status each membership will have on {@code date} if nothing else changes it, in the
+     * order of {@link #getMembershipList()}. No membership is changed, so this can forecast future expiries.
+     */
+    public List<MembershipStatus> getMembershipStatusesAsOf(LocalDate date) {
+        requireNonNull(date);
+        return memberships.getStatusesAsOf(date);
+    }
+
+    /**
+     * Returns the current date according to the clock of this address book.
+     */
+    public LocalDate getToday() {
+        return LocalDate.now(clock);
     }
 
     @Override
@@ -316,6 +412,40 @@ public class AddressBook implements ReadOnlyAddressBook {
         return clubs.getClub(target);
     }
 
+    /**
+     * Returns the ids of the persons carrying a tag with any of the keys numbered in {@code tagKeyIds}.
+     */
+    public Set<Long> getIdsOfPersonsTagged(BitSet tagKeyIds) {
+        requireNonNull(tagKeyIds);
+        return persons.getIdsTagged(tagKeyIds);
+    }
+
+    /**
+     * Returns the ids of the clubs carrying a tag with any of the keys numbered in {@code tagKeyIds}.
+     */
+    public Set<Long> getIdsOfClubsTagged(BitSet tagKeyIds) {
+        requireNonNull(tagKeyIds);
+        return clubs.getIdsTagged(tagKeyIds);
+    }
+
+    /**
+     * Returns the ids of the persons whose {@code field} may contain {@code keyword}, ignoring case,
+     * or an empty {@code Optional} if the keyword is too short to be looked up.
+     */
+    public Optional<Set<Long>> getIdsOfPersonsContaining(SearchField field, String keyword) {
+        requireAllNonNull(field, keyword);
+        return persons.getIdsContaining(field, keyword);
+    }
+
+    /**
+     * Returns the ids of the clubs whose {@code field} may contain {@code keyword}, ignoring case,
+     * or an empty {@code Optional} if the keyword is too short to be looked up.
+     */
+    public Optional<Set<Long>> getIdsOfClubsContaining(SearchField field, String keyword) {
+        requireAllNonNull(field, keyword);
+        return clubs.getIdsContaining(field, keyword);
+    }
+
     /**
      * Removes {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the address book.
@@ -360,14 +490,6 @@ public class AddressBook implements ReadOnlyAddressBook {
         return memberships.asUnmodifiableObservableList();
     }
 
-    public void sortPersonList(Comparator<Person> personComparator) {
-        persons.sort(personComparator);
-    }
-
-    public void sortClubList(Comparator<Club> clubComparator) {
-        clubs.sort(clubComparator);
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
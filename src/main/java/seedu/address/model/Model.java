@@ -1,12 +1,18 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.BitSet;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.club.Club;
+import seedu.address.model.field.SearchField;
 import seedu.address.model.membership.Membership;
 import seedu.address.model.person.Person;
 
@@ -127,18 +133,72 @@ public interface Model {
 
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * If {@code predicate} is a {@code RefinablePredicate} that refines the current filter, it is only run on the
+     * persons shown now. The list still visits every person, but rejects the hidden ones by a lookup.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Narrows the filtered person list to the persons it shows that also satisfy {@code predicate},
+     * running {@code predicate} only on those.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void refineFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Shows the filtered person list in the order of {@code personComparator}, or in the order of the address book
+     * if it is null. The address book itself is not reordered, and persons added later are shown in order.
+     */
     void sortFilteredPersonList(Comparator<Person> personComparator);
 
+    /**
+     * Returns the ids of the persons carrying a tag with any of the keys numbered in {@code tagKeyIds},
+     * as found in the address book's tag index rather than by testing every person.
+     *
+     * @see seedu.address.model.tag.TagRegistry
+     */
+    Set<Long> getIdsOfPersonsTagged(BitSet tagKeyIds);
+
+    /**
+     * Returns the ids of the persons whose {@code field} may contain {@code keyword}, ignoring case, as found
+     * in the address book's substring index. Every person whose field contains the keyword is included.
+     * Returns an empty {@code Optional} if the keyword is too short to be looked up.
+     */
+    Optional<Set<Long>> getIdsOfPersonsContaining(SearchField field, String keyword);
+
     ObservableList<Club> getFilteredClubList();
 
     void updateFilteredClubList(Predicate<Club> predicate);
 
+    /**
+     * Narrows the filtered club list to the clubs it shows that also satisfy {@code predicate},
+     * running {@code predicate} only on those.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void refineFilteredClubList(Predicate<Club> predicate);
+
+    /**
+     * Shows the filtered club list in the order of {@code clubComparator}, or in the order of the address book
+     * if it is null. The address book itself is not reordered, and clubs added later are shown in order.
+     */
     void sortFilteredClubList(Comparator<Club> clubComparator);
 
+    /**
+     * Returns the ids of the clubs carrying a tag with any of the keys numbered in {@code tagKeyIds},
+     * as found in the address book's tag index rather than by testing every club.
+     *
+     * @see seedu.address.model.tag.TagRegistry
+     */
+    Set<Long> getIdsOfClubsTagged(BitSet tagKeyIds);
+
+    /**
+     * Returns the ids of the clubs whose {@code field} may contain {@code keyword}, ignoring case, as found
+     * in the address book's substring index. Every club whose field contains the keyword is included.
+     * Returns an empty {@code Optional} if the keyword is too short to be looked up.
+     */
+    Optional<Set<Long>> getIdsOfClubsContaining(SearchField field, String keyword);
+
     ObservableList<Membership> getFilteredMembershipList();
 
     void updateFilteredMembershipList(Predicate<Membership> predicate);
@@ -148,4 +208,63 @@ public interface Model {
     void cancelMembership(Person personToCancel, Club clubToCancel);
 
     void reactivateMembership(Person personToReactivate, Club clubToReactivate, int durationInMonths);
+
+    /**
+     * Returns the current date according to the model's clock. Membership changes are dated with it.
+     */
+    LocalDate getToday();
+
+    /**
+     * Updates the status of every membership as of {@code today}, expiring those whose expiry date has passed.
+     * Returns the number of memberships that changed status.
+     */
+    int updateMembershipStatus(LocalDate today);
+
+    /**
+     * Takes the memberships whose expiry date has passed as of {@code today} off the queue of memberships
+     * awaiting expiry, and returns them without changing them. Nothing observable changes, so this need not
+     * run on the UI thread, but each returned membership must then be updated with
+     * {@link Membership#updateStatus(LocalDate)} on it.
+     */
+    List<Membership> takeMembershipsDue(LocalDate today);
+
+    /**
+     * Folds the membership renewals and reactivations older than the history compaction horizon in the
+     * user prefs, counted back from {@code today}, into summary events.
+     * Returns the number of events removed.
+     */
+    int compactMembershipHistory(LocalDate today);
+
+    /**
+     * Reports the persons and clubs whose memberships changed since the last call to observers of the
+     * person and club lists, as one change per list. Called once a command has finished changing the model.
+     */
+    void flushUpdates();
+
+    /**
+     * Starts a batch of changes. Until the matching {@link #commitBatch()}, added memberships are held back
+     * from the membership list, additions do not reset the filters of the filtered lists, and changed
+     * persons and clubs are not reported. Batches may be nested, and only the outermost commit applies them.
+     */
+    void beginBatch();
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}. If it is the outermost batch, the changes
+     * held back are applied with one change per list.
+     *
+     * @throws IllegalStateException if no batch has been started.
+     */
+    void commitBatch();
+
+    /**
+     * Runs {@code changes} as a single batch, committing it even if {@code changes} throws.
+     */
+    default void batch(Runnable changes) {
+        beginBatch();
+        try {
+            changes.run();
+        } finally {
+            commitBatch();
+        }
+    }
 }
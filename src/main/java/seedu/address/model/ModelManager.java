@@ -4,17 +4,28 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.club.Club;
+import seedu.address.model.field.SearchField;
 import seedu.address.model.membership.Membership;
 import seedu.address.model.person.Person;
+import seedu.address.model.util.RefinablePredicate;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -27,7 +38,19 @@ public class ModelManager implements Model {
 
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Club> filteredClubs;
+    // What the filtered lists are shown as, sorted without reordering the address book
+    private final SortedList<Person> sortedPersons;
+    private final SortedList<Club> sortedClubs;
     private final FilteredList<Membership> filteredMemberships;
+    // The filters last set, which the filtered lists may apply through a predicate that tests less
+    private Predicate<Person> personFilter = PREDICATE_SHOW_ALL_PERSONS;
+    private Predicate<Club> clubFilter = PREDICATE_SHOW_ALL_CLUBS;
+
+    // Depth of nested batches, and the filter resets that additions during the current batch asked for
+    private int batchDepth;
+    private boolean isPersonFilterResetPending;
+    private boolean isClubFilterResetPending;
+    private boolean isMembershipFilterResetPending;
 
     /**
      * Initializes a ModelManager with the default values of addressBook and userPrefs.
@@ -44,17 +67,35 @@ public class ModelManager implements Model {
      *     The user preferences to be managed. It cannot be null.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(addressBook, userPrefs);
+        this(addressBook, userPrefs, Clock.systemDefaultZone());
+    }
+
+    /**
+     * @param addressBook
+     *     The dependency-injected addressBook to be managed. It cannot be null.
+     *
+     * @param userPrefs
+     *     The user preferences to be managed. It cannot be null.
+     *
+     * @param clock
+     *     The clock that decides the current date for membership changes. It cannot be null.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, Clock clock) {
+        requireAllNonNull(addressBook, userPrefs, clock);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
+        this.addressBook = new AddressBook(addressBook, clock);
         // Update membership status upon initialization
         this.addressBook.updateMembershipStatus();
         this.userPrefs = new UserPrefs(userPrefs);
+        compactMembershipHistory(getToday());
+        flushUpdates();
         this.filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         this.filteredClubs = new FilteredList<>(this.addressBook.getClubList());
         this.filteredMemberships = new FilteredList<>(this.addressBook.getMembershipList());
+        this.sortedPersons = new SortedList<>(filteredPersons);
+        this.sortedClubs = new SortedList<>(filteredClubs);
 
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         updateFilteredClubList(PREDICATE_SHOW_ALL_CLUBS);
@@ -158,19 +199,31 @@ public class ModelManager implements Model {
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        if (isBatching()) {
+            isPersonFilterResetPending = true;
+        } else {
+            updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        }
     }
 
     @Override
     public void addClub(final Club club) {
         addressBook.addClub(club);
-        updateFilteredClubList(PREDICATE_SHOW_ALL_CLUBS);
+        if (isBatching()) {
+            isClubFilterResetPending = true;
+        } else {
+            updateFilteredClubList(PREDICATE_SHOW_ALL_CLUBS);
+        }
     }
 
     @Override
     public void addMembership(Membership membership) {
         addressBook.addMembership(membership);
-        updateFilteredMembershipList(PREDICATE_SHOW_ALL_MEMBERSHIP);
+        if (isBatching()) {
+            isMembershipFilterResetPending = true;
+        } else {
+            updateFilteredMembershipList(PREDICATE_SHOW_ALL_MEMBERSHIP);
+        }
     }
 
     @Override
@@ -195,36 +248,95 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        setFilter(filteredPersons, predicate, isRefinementOf(predicate, personFilter));
+        personFilter = predicate;
+    }
+
+    @Override
+    public void refineFilteredPersonList(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        personFilter = personFilter.and(predicate);
+        setFilter(filteredPersons, personFilter, true);
     }
 
     @Override
     public void sortFilteredPersonList(Comparator<Person> personComparator) {
-        addressBook.sortPersonList(personComparator);
+        // Persons added or updated later are moved to their place by binary search, not by sorting again
+        sortedPersons.setComparator(personComparator);
     }
 
     @Override
     public void sortFilteredClubList(Comparator<Club> clubComparator) {
-        addressBook.sortClubList(clubComparator);
+        sortedClubs.setComparator(clubComparator);
+    }
+
+    @Override
+    public Set<Long> getIdsOfPersonsTagged(BitSet tagKeyIds) {
+        return addressBook.getIdsOfPersonsTagged(tagKeyIds);
+    }
+
+    @Override
+    public Set<Long> getIdsOfClubsTagged(BitSet tagKeyIds) {
+        return addressBook.getIdsOfClubsTagged(tagKeyIds);
+    }
+
+    @Override
+    public Optional<Set<Long>> getIdsOfPersonsContaining(SearchField field, String keyword) {
+        return addressBook.getIdsOfPersonsContaining(field, keyword);
+    }
+
+    @Override
+    public Optional<Set<Long>> getIdsOfClubsContaining(SearchField field, String keyword) {
+        return addressBook.getIdsOfClubsContaining(field, keyword);
     }
 
     //=========== Filtered Club List Accessors =============================================================
 
     @Override
     public ObservableList<Club> getFilteredClubList() {
-        return filteredClubs;
+        return sortedClubs;
     }
 
     @Override
     public void updateFilteredClubList(Predicate<Club> predicate) {
         requireNonNull(predicate);
-        filteredClubs.setPredicate(predicate);
+        setFilter(filteredClubs, predicate, isRefinementOf(predicate, clubFilter));
+        clubFilter = predicate;
+    }
+
+    @Override
+    public void refineFilteredClubList(Predicate<Club> predicate) {
+        requireNonNull(predicate);
+        clubFilter = clubFilter.and(predicate);
+        setFilter(filteredClubs, clubFilter, true);
+    }
+
+    private static boolean isRefinementOf(Predicate<?> predicate, Predicate<?> currentFilter) {
+        return predicate instanceof RefinablePredicate<?> && ((RefinablePredicate<?>) predicate).refines(currentFilter);
+    }
+
+    /**
+     * Filters {@code list} by {@code predicate}. If {@code isRefinement}, {@code predicate} accepts nothing that
+     * the list hides now, so it is only run on the elements the list shows.
+     * A {@code FilteredList} re-tests every element of its source whenever its predicate is set, so the hidden
+     * elements are still visited; they are rejected by an identity lookup instead of by {@code predicate}.
+     */
+    private static <T> void setFilter(FilteredList<T> list, Predicate<T> predicate, boolean isRefinement) {
+        if (!isRefinement) {
+            list.setPredicate(predicate);
+            return;
+        }
+
+        ShownFirstPredicate<T> refinement = new ShownFirstPredicate<>(list, predicate);
+        list.setPredicate(refinement);
+        // Elements added or updated from now on may not have been shown, so they are tested in full
+        refinement.release();
     }
 
     //=========== Filtered Membership List Accessors =============================================================
@@ -232,36 +344,89 @@ public class ModelManager implements Model {
     @Override
     public void renewMembership(Person person, Club club, int durationInMonths) {
         requireAllNonNull(person, club);
-        //todo: update exception handling later
-        Membership membershipToCheck = new Membership(person, club);
-        if (!hasMembership(membershipToCheck)) {
-            throw new IllegalArgumentException("Membership does not exist.");
-        }
         addressBook.renewMembership(person, club, durationInMonths);
     }
 
     @Override
     public void cancelMembership(Person person, Club club) {
         requireAllNonNull(person, club);
-        //todo: update exception handling later
-        Membership membershipToCheck = new Membership(person, club);
-        if (!hasMembership(membershipToCheck)) {
-            throw new IllegalArgumentException("Membership does not exist.");
-        }
         addressBook.cancelMembership(person, club);
     }
 
     @Override
     public void reactivateMembership(Person person, Club club, int durationInMonths) {
         requireAllNonNull(person, club);
-        //todo: update exception handling later
-        Membership membershipToCheck = new Membership(person, club);
-        if (!hasMembership(membershipToCheck)) {
-            throw new IllegalArgumentException("Membership does not exist.");
-        }
         addressBook.reactivateMembership(person, club, durationInMonths);
     }
 
+    @Override
+    public int updateMembershipStatus(LocalDate today) {
+        requireNonNull(today);
+        return addressBook.updateMembershipStatus(today);
+    }
+
+    @Override
+    public LocalDate getToday() {
+        return addressBook.getToday();
+    }
+
+    @Override
+    public List<Membership> takeMembershipsDue(LocalDate today) {
+        requireNonNull(today);
+        return addressBook.takeMembershipsDue(today);
+    }
+
+    @Override
+    public int compactMembershipHistory(LocalDate today) {
+        requireNonNull(today);
+        return addressBook.compactMembershipHistory(
+                today.minusMonths(userPrefs.getHistoryCompactionHorizonInMonths()));
+    }
+
+    @Override
+    public void flushUpdates() {
+        if (isBatching()) {
+            return; // reported when the batch is committed
+        }
+        addressBook.flushUpdates();
+    }
+
+    @Override
+    public void beginBatch() {
+        if (batchDepth++ == 0) {
+            addressBook.beginBatch();
+        }
+    }
+
+    @Override
+    public void commitBatch() {
+        if (!isBatching()) {
+            throw new IllegalStateException("There is no batch to commit.");
+        }
+        if (--batchDepth > 0) {
+            return;
+        }
+
+        addressBook.endBatch();
+        if (isPersonFilterResetPending) {
+            updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        }
+        if (isClubFilterResetPending) {
+            updateFilteredClubList(PREDICATE_SHOW_ALL_CLUBS);
+        }
+        if (isMembershipFilterResetPending) {
+            updateFilteredMembershipList(PREDICATE_SHOW_ALL_MEMBERSHIP);
+        }
+        isPersonFilterResetPending = false;
+        isClubFilterResetPending = false;
+        isMembershipFilterResetPending = false;
+        flushUpdates();
+    }
+
+    private boolean isBatching() {
+        return batchDepth > 0;
+    }
+
     @Override
     public ObservableList<Membership> getFilteredMembershipList() {
         return filteredMemberships;
@@ -287,9 +452,32 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons)
-                && filteredClubs.equals(otherModelManager.filteredClubs)
+                && sortedPersons.equals(otherModelManager.sortedPersons)
+                && sortedClubs.equals(otherModelManager.sortedClubs)
                 && filteredMemberships.equals(otherModelManager.filteredMemberships);
     }
 
+    /**
+     * Rejects the elements a list does not show when this predicate is created, without testing them,
+     * until it is released. After that it is the same as the predicate it wraps.
+     */
+    private static class ShownFirstPredicate<T> implements Predicate<T> {
+        private final Predicate<T> predicate;
+        private Set<T> shown;
+
+        ShownFirstPredicate(ObservableList<T> list, Predicate<T> predicate) {
+            this.predicate = predicate;
+            this.shown = Collections.newSetFromMap(new IdentityHashMap<>(list.size()));
+            this.shown.addAll(list);
+        }
+
+        void release() {
+            shown = null;
+        }
+
+        @Override
+        public boolean test(T element) {
+            return (shown == null || shown.contains(element)) && predicate.test(element);
+        }
+    }
 }
@@ -13,4 +13,9 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns how many months back membership history is kept event by event before being summarised.
+     */
+    int getHistoryCompactionHorizonInMonths();
+
 }
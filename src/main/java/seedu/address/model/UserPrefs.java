@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,8 +14,12 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final String MESSAGE_HORIZON_CONSTRAINTS =
+            "The history compaction horizon should be a positive number of months.";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private int historyCompactionHorizonInMonths = 24;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +41,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setHistoryCompactionHorizonInMonths(newUserPrefs.getHistoryCompactionHorizonInMonths());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +62,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public int getHistoryCompactionHorizonInMonths() {
+        return historyCompactionHorizonInMonths;
+    }
+
+    /**
+     * Sets how many months of membership history are kept event by event; older renewals are summarised.
+     */
+    public void setHistoryCompactionHorizonInMonths(int historyCompactionHorizonInMonths) {
+        checkArgument(historyCompactionHorizonInMonths > 0, MESSAGE_HORIZON_CONSTRAINTS);
+        this.historyCompactionHorizonInMonths = historyCompactionHorizonInMonths;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +87,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && historyCompactionHorizonInMonths == otherUserPrefs.historyCompactionHorizonInMonths;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, historyCompactionHorizonInMonths);
     }
 
     @Override
@@ -82,6 +101,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nHistory compaction horizon in months : " + historyCompactionHorizonInMonths);
         return sb.toString();
     }
 
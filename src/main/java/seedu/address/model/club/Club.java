@@ -1,24 +1,30 @@
 package seedu.address.model.club;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
+import java.time.LocalDate;
 import java.util.Objects;
 import java.util.Set;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.field.Address;
 import seedu.address.model.field.Email;
 import seedu.address.model.field.Name;
 import seedu.address.model.field.Phone;
+import seedu.address.model.field.SearchProjection;
 import seedu.address.model.field.Searchable;
 import seedu.address.model.membership.Membership;
 import seedu.address.model.membership.MembershipStatus;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+import seedu.address.model.util.IdSequence;
 
 /**
  * Represents a Club in the address book.
@@ -26,6 +32,9 @@ import seedu.address.model.tag.Tag;
  */
 public class Club implements Searchable {
 
+    // Stable id that survives edits and saves, given by the club list that first holds the club
+    private long id = IdSequence.UNASSIGNED_ID;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -33,11 +42,18 @@ public class Club implements Searchable {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
+    private final SearchProjection searchProjection;
+    private int hash; // cached, as every field that hashCode uses is immutable
     private final ObservableList<Membership> memberships = FXCollections.observableArrayList();
 
+    // Memberships per status, indexed by ordinal, kept up to date as memberships are added, removed
+    // or change status, so that counting members needs no scan
+    private final int[] membershipCounts = new int[MembershipStatus.values().length];
+    private final ReadOnlyIntegerWrapper memberCount = new ReadOnlyIntegerWrapper();
+
     /**
-     * Constructs a {@code Club}.
+     * Constructs a {@code Club} without an id. It is given one when it is first added to a club list.
      *
      * @param name    The club's name (required).
      * @param phone   The club's phone number (optional; may be empty).
@@ -63,7 +79,48 @@ public class Club implements Searchable {
         assert tags.size() <= 10;
         assert tags.stream().allMatch(tag -> tag.tagName.length() <= 20);
 
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
+        this.searchProjection = new SearchProjection(name, this.phone, email, this.address);
+
+        memberships.addListener((ListChangeListener<Membership>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    continue;
+                }
+                change.getRemoved().forEach(this::stopCounting);
+                change.getAddedSubList().forEach(this::startCounting);
+            }
+        });
+    }
+
+    /**
+     * Constructs a {@code Club} with a known {@code id}, such as one read from storage
+     * or carried over from the club being edited.
+     */
+    public Club(long id, Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
+        this(name, phone, email, address, tags);
+        checkArgument(IdSequence.isValidId(id), IdSequence.MESSAGE_CONSTRAINTS);
+        this.id = id;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Returns true if this club has an id, i.e. it was created with one or has been added to a club list.
+     */
+    public boolean hasId() {
+        return id != IdSequence.UNASSIGNED_ID;
+    }
+
+    /**
+     * Gives this club its id. Only the club list that first holds a club without an id does this.
+     */
+    void assignId(long id) {
+        assert !hasId();
+        checkArgument(IdSequence.isValidId(id), IdSequence.MESSAGE_CONSTRAINTS);
+        this.id = id;
     }
 
     public Name getName() {
@@ -86,8 +143,15 @@ public class Club implements Searchable {
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
-    public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+    public TagSet getTags() {
+        return tags;
+    }
+
+    /**
+     * Returns the normalized fields that searches match against.
+     */
+    public SearchProjection getSearchProjection() {
+        return searchProjection;
     }
 
     public boolean hasValidTagList() {
@@ -107,8 +171,7 @@ public class Club implements Searchable {
             return false;
         }
 
-        return name.isSameName(otherClub.name)
-                || email.value.equalsIgnoreCase(otherClub.email.value);
+        return name.isSameName(otherClub.name) || email.isSameEmail(otherClub.email);
     }
 
     public boolean addMembership(Membership membership) {
@@ -120,13 +183,13 @@ public class Club implements Searchable {
     }
 
     /**
-     * Adds a person as a member of the club.
+     * Adds a person as a member of the club, joining on {@code today}.
      *
      * @param person The person to be added as a member.
      * @return true if the person was added successfully, false if they were already a member.
      */
-    public boolean addMember(Person person) {
-        Membership newMembership = new Membership(person, this);
+    public boolean addMember(Person person, LocalDate today) {
+        Membership newMembership = new Membership(person, this, today);
 
         boolean added = this.memberships.add(newMembership);
 
@@ -174,9 +237,22 @@ public class Club implements Searchable {
      * and exclude cancelled membership.
      */
     public int getMemberCount() {
-        return (int) memberships.stream()
-                .filter(membership -> membership.getStatus() != MembershipStatus.CANCELLED)
-                .count();
+        return memberCount.get();
+    }
+
+    /**
+     * Returns the number of members, as counted by {@link #getMemberCount()}, as a property that
+     * updates whenever a membership is added, removed or changes status.
+     */
+    public ReadOnlyIntegerProperty memberCountProperty() {
+        return memberCount.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns the number of memberships of this club that have the given {@code status}.
+     */
+    public int getMembershipCount(MembershipStatus status) {
+        return membershipCounts[status.ordinal()];
     }
 
     /**
@@ -189,6 +265,41 @@ public class Club implements Searchable {
         memberships.clear();
     }
 
+    /**
+     * Moves {@code membership} from the count of {@code oldStatus} to the count of its current status, and
+     * notifies listeners of {@link #getMemberships()} by replacing it with itself.
+     * Does nothing if {@code membership} is not one of this club's memberships.
+     */
+    public void refreshMembership(Membership membership, MembershipStatus oldStatus) {
+        for (int i = 0; i < memberships.size(); i++) {
+            if (memberships.get(i) == membership) {
+                adjustCount(oldStatus, -1);
+                adjustCount(membership.getStatus(), 1);
+                // The replacement is counted out and back in at the current status, which leaves counts as they are
+                memberships.set(i, membership);
+                return;
+            }
+        }
+    }
+
+    private void startCounting(Membership membership) {
+        adjustCount(membership.getStatus(), 1);
+    }
+
+    private void stopCounting(Membership membership) {
+        adjustCount(membership.getStatus(), -1);
+    }
+
+    private void adjustCount(MembershipStatus status, int delta) {
+        if (status == null) {
+            return;
+        }
+        membershipCounts[status.ordinal()] += delta;
+        if (status != MembershipStatus.CANCELLED) {
+            memberCount.set(memberCount.get() + delta);
+        }
+    }
+
     /**
      * Returns true if both clubs have the same identity and data fields.
      * This defines a stronger notion of equality between two clubs.
@@ -214,7 +325,10 @@ public class Club implements Searchable {
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, phone, email, address, tags);
+        if (hash == 0) {
+            hash = Objects.hash(name, phone, email, address, tags);
+        }
+        return hash;
     }
 
     @Override
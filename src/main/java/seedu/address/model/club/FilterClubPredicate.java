@@ -3,24 +3,45 @@ package seedu.address.model.club;
 import java.util.List;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.field.FilterKeyword;
+import seedu.address.model.util.RefinablePredicate;
 
 /**
  * Tests that a {@code Club}'s {@code Name} matches any of the keywords given.
  */
 
-public class FilterClubPredicate implements Predicate<Club> {
+public class FilterClubPredicate implements RefinablePredicate<Club> {
     private final List<String> keywords;
+    private final List<FilterKeyword> filterKeywords;
 
+    /**
+     * Creates a filter matching clubs with any of {@code keywords}, each a field prefix followed by
+     * the text to look for in that field.
+     */
     public FilterClubPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.filterKeywords = keywords.stream().map(FilterKeyword::of).toList();
     }
 
     @Override
     public boolean test(Club club) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.matchClubByKeyword(club, keyword));
+        for (int i = 0; i < filterKeywords.size(); i++) {
+            if (filterKeywords.get(i).matches(club)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code other} is a filter with all of the keywords of this one. As a club matching any
+     * keyword is accepted, this filter accepts no more.
+     */
+    @Override
+    public boolean refines(Predicate<?> other) {
+        return other instanceof FilterClubPredicate
+                && ((FilterClubPredicate) other).keywords.containsAll(keywords);
     }
 
     @Override
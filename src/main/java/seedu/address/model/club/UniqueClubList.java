@@ -3,11 +3,14 @@ package seedu.address.model.club;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.Set;
 
 import javafx.beans.Observable;
 import javafx.collections.FXCollections;
@@ -16,7 +19,11 @@ import javafx.util.Callback;
 import seedu.address.model.club.exceptions.ClubNotFoundException;
 import seedu.address.model.club.exceptions.DuplicateClubException;
 import seedu.address.model.field.Name;
-import seedu.address.model.membership.Membership;
+import seedu.address.model.field.SearchField;
+import seedu.address.model.field.SubstringIndex;
+import seedu.address.model.tag.TagIndex;
+import seedu.address.model.util.IdSequence;
+import seedu.address.model.util.UpdateBatchingList;
 
 /**
  * A list of clubs that enforces uniqueness between its elements and does not allow nulls.
@@ -25,41 +32,43 @@ import seedu.address.model.membership.Membership;
  * unique in terms of identity in the UniqueClubList. However, the removal of a club uses Club#equals(Object) so
  * as to ensure that the club with exactly the same fields will be removed.
  *
+ * Since a club is identified by either its name or its email, clubs are indexed by both the
+ * normalized name key and the case-insensitive email so that identity checks do not scan the list.
+ * Clubs are also indexed by their tags and the trigrams of their name, address and email, for searches.
+ *
+ * A club added without an id is given the next unused id of this list; ids that clubs already have,
+ * e.g. when loaded from a file, are reserved so that they are never handed out again.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Club#isSameClub(Club)
  */
 public class UniqueClubList implements Iterable<Club> {
 
-    private final Callback<Club, Observable[]> extractor = club -> {
-        // Create a stream of all the status properties from all memberships
-        Observable[] membershipStatuses = club.getMemberships().stream()
-                .map(Membership::statusProperty)
-                .toArray(Observable[]::new);
-
-        // Create a final observable array that contains:
-        // 1. The membership set itself (for additions/removals)
-        // 2. All the individual status properties (for status changes)
-        return Stream.concat(
-                Stream.of(club.getMemberships()),
-                Stream.of(membershipStatuses)
-        ).toArray(Observable[]::new);
-    };
-
-    private final ObservableList<Club> internalList = FXCollections.observableArrayList(extractor);
+    // A club's memberships list also reports status changes of its memberships, see Club#refreshMembership,
+    // so it is the only thing to observe
+    private final Callback<Club, Observable[]> extractor = club -> new Observable[] {club.getMemberships()};
+
+    private final ObservableList<Club> internalList = FXCollections.observableArrayList();
+    // Updates from the extractor are held back until flushUpdates, so a command that changes many
+    // memberships costs observers one change
+    private final UpdateBatchingList<Club> batchingList = new UpdateBatchingList<>(internalList, extractor);
     private final ObservableList<Club> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+            FXCollections.unmodifiableObservableList(batchingList);
+
+    // Identity keys -> club, kept in sync with internalList
+    private final Map<String, Club> nameIndex = new HashMap<>();
+    private final Map<String, Club> emailIndex = new HashMap<>();
+    private final TagIndex tagIndex = new TagIndex();
+    private final SubstringIndex substringIndex = new SubstringIndex();
+    private final IdSequence ids = new IdSequence();
 
     /**
      * Returns true if the list contains an equivalent club as the given argument.
      */
     public boolean contains(Club toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameClub);
-    }
-
-    public void sort(Comparator<Club> clubComparator) {
-        internalList.sort(clubComparator);
+        return nameIndex.containsKey(nameKey(toCheck)) || emailIndex.containsKey(emailKey(toCheck));
     }
 
     /**
@@ -71,7 +80,9 @@ public class UniqueClubList implements Iterable<Club> {
         if (contains(toAdd)) {
             throw new DuplicateClubException();
         }
+        assignId(toAdd);
         internalList.add(toAdd);
+        index(toAdd);
     }
 
     /**
@@ -87,11 +98,20 @@ public class UniqueClubList implements Iterable<Club> {
             throw new ClubNotFoundException();
         }
 
-        if (!target.isSameClub(editedClub) && contains(editedClub)) {
+        // The edited club may keep the target's name or email, but must not take either from another club
+        Club storedTarget = internalList.get(index);
+        if (isClaimedByOther(nameIndex.get(nameKey(editedClub)), storedTarget)
+                || isClaimedByOther(emailIndex.get(emailKey(editedClub)), storedTarget)) {
             throw new DuplicateClubException();
         }
 
+        if (!editedClub.hasId()) {
+            // The edited club stands for the same club as the target
+            editedClub.assignId(storedTarget.getId());
+        }
         internalList.set(index, editedClub);
+        unindex(storedTarget);
+        index(editedClub);
     }
 
     /**
@@ -100,35 +120,121 @@ public class UniqueClubList implements Iterable<Club> {
      */
     public void remove(Club toRemove) {
         requireNonNull(toRemove);
+        Club storedClub = nameIndex.get(nameKey(toRemove));
         if (!internalList.remove(toRemove)) {
             throw new ClubNotFoundException();
         }
+        unindex(storedClub);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setClubs(UniqueClubList replacement) {
         requireNonNull(replacement);
+        ids.reserveAll(replacement.ids);
+        internalList.setAll(replacement.internalList);
+        nameIndex.clear();
+        nameIndex.putAll(replacement.nameIndex);
+        emailIndex.clear();
+        emailIndex.putAll(replacement.emailIndex);
+        tagIndex.setAll(replacement.tagIndex);
+        substringIndex.setAll(replacement.substringIndex);
+    }
+
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}, which is left empty.
+     * Unlike {@link #setClubs(UniqueClubList)}, the indexes of {@code replacement} are taken over rather than
+     * copied, which suits a list that was only built to be loaded into this one.
+     */
+    public void takeClubs(UniqueClubList replacement) {
+        requireNonNull(replacement);
+        ids.reserveAll(replacement.ids);
         internalList.setAll(replacement.internalList);
+        replacement.internalList.clear();
+        nameIndex.clear();
+        nameIndex.putAll(replacement.nameIndex);
+        replacement.nameIndex.clear();
+        emailIndex.clear();
+        emailIndex.putAll(replacement.emailIndex);
+        replacement.emailIndex.clear();
+        tagIndex.takeFrom(replacement.tagIndex);
+        substringIndex.takeFrom(replacement.substringIndex);
     }
 
     /**
      * Replaces the contents of this list with {@code clubs}.
      * {@code clubs} must not contain duplicate clubs.
+     * Uniqueness is checked in a single pass, and the list is left unchanged if any duplicates are found.
+     *
+     * @throws DuplicateClubException listing every club that has the same name or email as an earlier one.
      */
     public void setClubs(List<Club> clubs) {
         requireAllNonNull(clubs);
-        if (!clubsAreUnique(clubs)) {
-            throw new DuplicateClubException();
+        Map<String, Club> newNameIndex = new HashMap<>();
+        Map<String, Club> newEmailIndex = new HashMap<>();
+        List<Club> duplicates = new ArrayList<>();
+        for (Club club : clubs) {
+            String nameKey = nameKey(club);
+            String emailKey = emailKey(club);
+            if (newNameIndex.containsKey(nameKey) || newEmailIndex.containsKey(emailKey)) {
+                duplicates.add(club);
+                continue;
+            }
+            newNameIndex.put(nameKey, club);
+            newEmailIndex.put(emailKey, club);
+        }
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateClubException(duplicates);
         }
 
+        assignIds(clubs);
         internalList.setAll(clubs);
+        nameIndex.clear();
+        nameIndex.putAll(newNameIndex);
+        emailIndex.clear();
+        emailIndex.putAll(newEmailIndex);
+        tagIndex.clear();
+        substringIndex.clear();
+        clubs.forEach(club -> {
+            tagIndex.add(club.getId(), club.getTags());
+            substringIndex.add(club.getId(), club);
+        });
     }
 
+    /**
+     * Returns the club whose name matches {@code name}, ignoring case and extra whitespace.
+     */
     public Optional<Club> getClub(Name name) {
-        return internalList.stream()
-                .filter(club ->
-                        club.getName().equals(name)
-                )
-                .findFirst();
+        requireNonNull(name);
+        return Optional.ofNullable(nameIndex.get(name.getKey()));
+    }
+
+    /**
+     * Returns the ids of the clubs carrying a tag with any of the keys numbered in {@code tagKeyIds}.
+     *
+     * @see seedu.address.model.tag.TagRegistry
+     */
+    public Set<Long> getIdsTagged(BitSet tagKeyIds) {
+        return tagIndex.getIds(tagKeyIds);
+    }
+
+    /**
+     * Returns the ids of the clubs whose {@code field} may contain {@code keyword}, ignoring case,
+     * or an empty {@code Optional} if the keyword is too short to be looked up.
+     *
+     * @see SubstringIndex#getCandidateIds(SearchField, String)
+     */
+    public Optional<Set<Long>> getIdsContaining(SearchField field, String keyword) {
+        return substringIndex.getCandidateIds(field, keyword);
+    }
+
+    /**
+     * Reports the clubs whose memberships changed since the last call to observers of
+     * {@link #asUnmodifiableObservableList()}, as a single change.
+     */
+    public void flushUpdates() {
+        batchingList.flushUpdates();
     }
 
     /**
@@ -169,16 +275,48 @@ public class UniqueClubList implements Iterable<Club> {
     }
 
     /**
-     * Returns true if {@code clubs} contains only unique clubs.
+     * Gives {@code club} the next id of this list if it has none, or reserves the id it has.
      */
-    private boolean clubsAreUnique(List<Club> clubs) {
-        for (int i = 0; i < clubs.size() - 1; i++) {
-            for (int j = i + 1; j < clubs.size(); j++) {
-                if (clubs.get(i).isSameClub(clubs.get(j))) {
-                    return false;
-                }
-            }
+    private void assignId(Club club) {
+        if (club.hasId()) {
+            ids.reserve(club.getId());
+        } else {
+            club.assignId(ids.next());
         }
-        return true;
+    }
+
+    /**
+     * Gives every club in {@code clubs} without an id the next id of this list, after reserving the ids of all the
+     * others, so that no new id can clash with one that comes later in {@code clubs}.
+     */
+    private void assignIds(List<Club> clubs) {
+        clubs.stream().filter(Club::hasId).forEach(this::assignId);
+        clubs.stream().filter(club -> !club.hasId()).forEach(this::assignId);
+    }
+
+    private void index(Club club) {
+        nameIndex.put(nameKey(club), club);
+        emailIndex.put(emailKey(club), club);
+        tagIndex.add(club.getId(), club.getTags());
+        substringIndex.add(club.getId(), club);
+    }
+
+    private void unindex(Club club) {
+        nameIndex.remove(nameKey(club));
+        emailIndex.remove(emailKey(club));
+        tagIndex.remove(club.getId(), club.getTags());
+        substringIndex.remove(club.getId(), club);
+    }
+
+    private static boolean isClaimedByOther(Club owner, Club target) {
+        return owner != null && owner != target;
+    }
+
+    private static String nameKey(Club club) {
+        return club.getName().getKey();
+    }
+
+    private static String emailKey(Club club) {
+        return club.getEmail().getKey();
     }
 }
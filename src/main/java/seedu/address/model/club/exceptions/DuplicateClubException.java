@@ -1,11 +1,33 @@
 package seedu.address.model.club.exceptions;
 
+import java.util.List;
+
+import seedu.address.model.club.Club;
+
 /**
  * Signals that the operation will result in duplicate Clubs (Clubs are considered duplicates if they have the same
  * identity).
  */
 public class DuplicateClubException extends RuntimeException {
+    private final List<Club> duplicates;
+
     public DuplicateClubException() {
         super("Operation would result in duplicate clubs");
+        duplicates = List.of();
+    }
+
+    /**
+     * Constructs an exception reporting every {@code Club} in {@code duplicates} that clashes with an earlier one.
+     */
+    public DuplicateClubException(List<Club> duplicates) {
+        super("Operation would result in duplicate clubs: " + duplicates);
+        this.duplicates = List.copyOf(duplicates);
+    }
+
+    /**
+     * Returns the duplicates that caused this exception, or an empty list if they were not recorded.
+     */
+    public List<Club> getDuplicates() {
+        return duplicates;
     }
 }
@@ -26,6 +26,9 @@ public class Address implements Comparable<Address> {
 
     public final String value;
 
+    // Lower-cased once for case-insensitive sorting
+    private final String key;
+
     /**
      * Constructs an {@code Address}.
      *
@@ -39,12 +42,14 @@ public class Address implements Comparable<Address> {
     public Address(String address) {
         if (address == null || address.strip().isEmpty()) {
             this.value = "";
+            this.key = "";
             return;
         }
 
         checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
 
         this.value = AddressValidator.validateOrThrow(address, true);
+        this.key = value.toLowerCase();
     }
 
     /**
@@ -92,6 +97,6 @@ public class Address implements Comparable<Address> {
         } else if (address.value.equals("")) {
             return -1;
         }
-        return this.value.toLowerCase().compareTo(address.value.toLowerCase());
+        return key.compareTo(address.key);
     }
 }
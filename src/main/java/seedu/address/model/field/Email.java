@@ -39,6 +39,9 @@ public class Email implements Comparable<Email> {
 
     public final String value;
 
+    // Emails are case-insensitive, so they are compared on this lower-cased form
+    private final String key;
+
     /**
      * Constructs an {@code Email}.
      *
@@ -48,6 +51,7 @@ public class Email implements Comparable<Email> {
         requireNonNull(email);
         checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
         value = email;
+        key = email.toLowerCase();
     }
 
     /**
@@ -96,6 +100,20 @@ public class Email implements Comparable<Email> {
         return emailDomainPart.matches(DOMAIN_REGEX);
     }
 
+    /**
+     * Returns the lower-cased form of this email that identifies it.
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Returns true if both emails are the same, ignoring case.
+     */
+    public boolean isSameEmail(Email other) {
+        return key.equals(other.key);
+    }
+
     @Override
     public String toString() {
         return value;
@@ -123,6 +141,6 @@ public class Email implements Comparable<Email> {
 
     @Override
     public int compareTo(Email email) {
-        return this.value.toLowerCase().compareTo(email.value.toLowerCase());
+        return key.compareTo(email.key);
     }
 }
@@ -0,0 +1,61 @@
+package seedu.address.model.field;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * A filter keyword such as {@code n/alice}, whose prefix names the field its description is looked for in.
+ * The keyword is split and normalized once, so that matching it against the {@code SearchProjection} of
+ * a person or club does not allocate. A keyword without a known prefix matches nothing.
+ */
+public final class FilterKeyword {
+
+    private static final int PREFIX_LENGTH = 2;
+
+    private final String prefix;
+    private final String description;
+
+    private FilterKeyword(String prefix, String description) {
+        this.prefix = prefix;
+        this.description = description;
+    }
+
+    /**
+     * Splits {@code keyword} into its prefix, ignoring case, and its normalized description.
+     */
+    public static FilterKeyword of(String keyword) {
+        requireNonNull(keyword);
+        if (keyword.length() < PREFIX_LENGTH) {
+            return new FilterKeyword("", "");
+        }
+        return new FilterKeyword(keyword.substring(0, PREFIX_LENGTH).toLowerCase(),
+                SearchProjection.normalize(keyword.substring(PREFIX_LENGTH)));
+    }
+
+    /**
+     * Returns true if the field of {@code searchable} named by the prefix contains the description.
+     */
+    public boolean matches(Searchable searchable) {
+        SearchProjection projection = searchable.getSearchProjection();
+        switch (prefix) {
+        case "n/":
+            return projection.name.contains(description);
+        case "p/":
+            return projection.phone.contains(description);
+        case "e/":
+            return projection.email.contains(description);
+        case "a/":
+            return projection.address.contains(description);
+        case "t/":
+            for (Tag tag : searchable.getTags()) {
+                if (tag.getKey().contains(description)) {
+                    return true;
+                }
+            }
+            return false;
+        default:
+            return false;
+        }
+    }
+}
@@ -21,6 +21,10 @@ public class Name implements Comparable<Name> {
 
     public final String fullName;
 
+    // Derived once, as names are compared far more often than they are created
+    private final String key;
+    private final String lowerCaseName;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -30,6 +34,8 @@ public class Name implements Comparable<Name> {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        key = NameValidator.nameKey(name);
+        lowerCaseName = name.toLowerCase();
     }
 
     /**
@@ -44,8 +50,18 @@ public class Name implements Comparable<Name> {
         return fullName;
     }
 
+    /**
+     * Returns the case-insensitive, whitespace-normalized form of this name that identifies it.
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Returns true if both names are the same after normalizing case and whitespace.
+     */
     public boolean isSameName(Name other) {
-        return NameValidator.normalize(fullName).equalsIgnoreCase(NameValidator.normalize(other.fullName));
+        return key.equals(other.key);
     }
 
     @Override
@@ -70,6 +86,6 @@ public class Name implements Comparable<Name> {
 
     @Override
     public int compareTo(Name name) {
-        return this.fullName.toLowerCase().compareTo(name.fullName.toLowerCase());
+        return lowerCaseName.compareTo(name.lowerCaseName);
     }
 }
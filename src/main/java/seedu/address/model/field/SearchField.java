@@ -0,0 +1,12 @@
+package seedu.address.model.field;
+
+/**
+ * The text fields of a {@code Searchable} that searches match keywords against as substrings.
+ *
+ * @see SearchProjection#get(SearchField)
+ */
+public enum SearchField {
+    NAME,
+    ADDRESS,
+    EMAIL
+}
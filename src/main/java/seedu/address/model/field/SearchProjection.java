@@ -0,0 +1,79 @@
+package seedu.address.model.field;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * The fields of a {@code Searchable} in the form searches match against: NFKC-normalized and lower-cased,
+ * plus the digits of the phone number alone. Persons and clubs are immutable, so each computes its projection
+ * once, and testing a search condition against it does not allocate.
+ * Keywords are to be put in the same form with {@link #normalize(String)}.
+ */
+public final class SearchProjection {
+
+    public final String name;
+    public final String phone;
+    public final String phoneDigits;
+    public final String email;
+    public final String address;
+
+    /**
+     * Constructs the projection of the given fields.
+     */
+    public SearchProjection(Name name, Phone phone, Email email, Address address) {
+        requireAllNonNull(name, phone, email, address);
+        this.name = normalize(name.fullName);
+        this.phone = normalize(phone.value);
+        this.phoneDigits = digitsOf(phone.value);
+        this.email = normalize(email.value);
+        this.address = normalize(address.value);
+    }
+
+    /**
+     * Returns {@code text} NFKC-normalized and lower-cased, so that e.g. full-width letters and ligatures
+     * match their plain forms. Returns {@code text} itself if it is already in that form.
+     */
+    public static String normalize(String text) {
+        requireNonNull(text);
+        String normalized = Normalizer.isNormalized(text, Normalizer.Form.NFKC)
+                ? text
+                : Normalizer.normalize(text, Normalizer.Form.NFKC);
+        return normalized.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the decimal digits of {@code text}, in order, as ASCII digits.
+     */
+    public static String digitsOf(String text) {
+        requireNonNull(text);
+        StringBuilder digits = new StringBuilder(text.length());
+        boolean isAsciiDigits = true;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int digit = Character.digit(c, 10);
+            if (digit >= 0) {
+                digits.append((char) ('0' + digit));
+            }
+            isAsciiDigits &= '0' <= c && c <= '9';
+        }
+        return isAsciiDigits ? text : digits.toString();
+    }
+
+    /**
+     * Returns the projected text of {@code field}.
+     */
+    public String get(SearchField field) {
+        switch (field) {
+        case NAME:
+            return name;
+        case ADDRESS:
+            return address;
+        case EMAIL:
+        default:
+            return email;
+        }
+    }
+}
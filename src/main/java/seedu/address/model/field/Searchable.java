@@ -1,16 +1,16 @@
 package seedu.address.model.field;
 
-import java.util.Set;
-
 import javafx.collections.ObservableList;
 import seedu.address.model.membership.Membership;
-import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Group together methods for accessing common fields between <code>Person</code> and <code>Club</code>
  */
 public interface Searchable {
 
+    public long getId();
+
     public Name getName();
 
     public Phone getPhone();
@@ -19,7 +19,9 @@ public interface Searchable {
 
     public Address getAddress();
 
-    public Set<Tag> getTags();
+    public TagSet getTags();
+
+    public SearchProjection getSearchProjection();
 
     public ObservableList<Membership> getMemberships();
 
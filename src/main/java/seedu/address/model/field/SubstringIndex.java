@@ -0,0 +1,135 @@
+package seedu.address.model.field;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * An inverted index from the trigrams of the {@link SearchField}s of entities, as projected for searches
+ * by {@link SearchProjection}, to their ids,
+ * so that substring searches can find their candidates without testing every entity.
+ * A field containing a keyword contains every trigram of the keyword, so the entities carrying all of
+ * them are a superset of the matches, to be verified with {@code contains}.
+ * Keywords shorter than a trigram cannot be looked up.
+ *
+ * Each trigram is packed into a long with the field it was found in, and its ids are kept in a hash set,
+ * so that recording or forgetting an entity costs the same however common its trigrams are.
+ */
+public class SubstringIndex {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private static final SearchField[] FIELDS = SearchField.values();
+
+    private Map<Long, Set<Long>> idsByGram = new HashMap<>();
+
+    /**
+     * Records the text of every search field of {@code searchable} under {@code id}.
+     */
+    public void add(long id, Searchable searchable) {
+        requireNonNull(searchable);
+        for (SearchField field : FIELDS) {
+            forEachGram(field, searchable.getSearchProjection().get(field),
+                    gram -> idsByGram.computeIfAbsent(gram, unused -> new HashSet<>()).add(id));
+        }
+    }
+
+    /**
+     * Forgets the text of every search field of {@code searchable} recorded under {@code id}.
+     */
+    public void remove(long id, Searchable searchable) {
+        requireNonNull(searchable);
+        for (SearchField field : FIELDS) {
+            forEachGram(field, searchable.getSearchProjection().get(field), gram -> {
+                Set<Long> ids = idsByGram.get(gram);
+                if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                    idsByGram.remove(gram);
+                }
+            });
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with a copy of {@code replacement}.
+     */
+    public void setAll(SubstringIndex replacement) {
+        requireNonNull(replacement);
+        idsByGram.clear();
+        replacement.idsByGram.forEach((gram, ids) -> idsByGram.put(gram, new HashSet<>(ids)));
+    }
+
+    /**
+     * Replaces the contents of this index with those of {@code replacement}, which is left empty.
+     * Unlike {@link #setAll(SubstringIndex)}, nothing is copied.
+     */
+    public void takeFrom(SubstringIndex replacement) {
+        requireNonNull(replacement);
+        idsByGram = replacement.idsByGram;
+        replacement.idsByGram = new HashMap<>();
+    }
+
+    /**
+     * Removes every entry from this index.
+     */
+    public void clear() {
+        idsByGram.clear();
+    }
+
+    /**
+     * Returns the ids of the entities whose {@code field} may contain {@code keyword}, ignoring case.
+     * Every entity whose field does contain it is included, but not every included one does.
+     * Returns an empty {@code Optional} if the keyword is too short to be looked up.
+     */
+    public Optional<Set<Long>> getCandidateIds(SearchField field, String keyword) {
+        requireAllNonNull(field, keyword);
+        String normalizedKeyword = SearchProjection.normalize(keyword);
+        if (normalizedKeyword.length() < GRAM_LENGTH) {
+            return Optional.empty();
+        }
+
+        List<Set<Long>> postings = new ArrayList<>();
+        boolean[] isMissing = new boolean[1];
+        forEachGram(field, normalizedKeyword, gram -> {
+            Set<Long> ids = idsByGram.get(gram);
+            if (ids == null) {
+                isMissing[0] = true;
+            } else {
+                postings.add(ids);
+            }
+        });
+        if (isMissing[0]) {
+            return Optional.of(Set.of());
+        }
+
+        // Walk the shortest posting list, looking its ids up in the others
+        postings.sort(Comparator.comparingInt(Set::size));
+        Set<Long> candidates = new HashSet<>();
+        for (Long id : postings.get(0)) {
+            if (postings.stream().allMatch(ids -> ids.contains(id))) {
+                candidates.add(id);
+            }
+        }
+        return Optional.of(candidates);
+    }
+
+    private static void forEachGram(SearchField field, String normalizedText, GramConsumer action) {
+        long fieldBits = (long) field.ordinal() << 48;
+        for (int i = 0; i + GRAM_LENGTH <= normalizedText.length(); i++) {
+            action.accept(fieldBits | (long) normalizedText.charAt(i) << 32
+                    | (long) normalizedText.charAt(i + 1) << 16 | normalizedText.charAt(i + 2));
+        }
+    }
+
+    @FunctionalInterface
+    private interface GramConsumer {
+        void accept(long gram);
+    }
+}
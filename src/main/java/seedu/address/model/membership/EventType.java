@@ -7,5 +7,7 @@ public enum EventType {
     JOIN,
     RENEW,
     CANCEL,
-    REACTIVATE
+    REACTIVATE,
+    /** Stands for several old renewals and reactivations, folded together to keep the history short. */
+    SUMMARY
 }
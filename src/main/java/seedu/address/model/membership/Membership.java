@@ -3,7 +3,6 @@ package seedu.address.model.membership;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -31,18 +30,23 @@ public class Membership {
 
     private static final Logger logger = LogsCenter.getLogger(Membership.class);
 
-    private final Person person;
-    private final Club club;
+    private Person person;
+    private Club club;
     private final LocalDate joinDate;
-    private ObjectProperty<LocalDate> expiryDate = new SimpleObjectProperty<>();
-    private ObjectProperty<MembershipStatus> status = new SimpleObjectProperty<>();
-    private List<MembershipEvent> membershipEventHistory;
+    private LocalDate expiryDate;
+    private MembershipStatus status;
+    // Created on first request, so that memberships that nothing binds to carry no properties.
+    // Once created, a property holds the value and its listener keeps the plain field in sync.
+    private ObjectProperty<LocalDate> expiryDateProperty;
+    private ObjectProperty<MembershipStatus> statusProperty;
+    private final MembershipEventLog membershipEventHistory;
+    private MembershipKey key; // computed on first use, reset when the person or club is relinked
 
     /**
-     * Constructor with duration specified.
+     * Constructor with duration specified, for a membership joined on {@code today}.
      */
-    public Membership(Person person, Club club, int initialDurationInMonths) {
-        requireAllNonNull(person, club, initialDurationInMonths);
+    public Membership(Person person, Club club, int initialDurationInMonths, LocalDate today) {
+        requireAllNonNull(person, club, initialDurationInMonths, today);
 
         if (!isValidMembershipDuration(initialDurationInMonths)) {
             throw new IllegalArgumentException("Membership duration must be between "
@@ -52,21 +56,14 @@ public class Membership {
 
         this.person = person;
         this.club = club;
-        LocalDate today = LocalDate.now();
         this.joinDate = today;
-        this.expiryDate.set(joinDate.plusMonths(initialDurationInMonths));
-        this.membershipEventHistory = new ArrayList<>();
+        this.expiryDate = joinDate.plusMonths(initialDurationInMonths);
+        this.membershipEventHistory = new MembershipEventLog();
 
         // The first event is always a JOIN event. This captures the initial duration.
-        MembershipEvent joinEvent = new MembershipEvent(
-                EventType.JOIN,
-                today,
-                initialDurationInMonths,
-                this.expiryDate.get()
-        );
-        this.membershipEventHistory.add(joinEvent);
-
-        this.status.set(MembershipStatus.ACTIVE);
+        this.membershipEventHistory.append(EventType.JOIN, today, initialDurationInMonths, this.expiryDate);
+
+        this.status = MembershipStatus.ACTIVE;
     }
 
     /**
@@ -79,23 +76,24 @@ public class Membership {
         this.person = person;
         this.club = club;
         this.joinDate = joinDate;
-        this.expiryDate.set(expiryDate);
-        this.membershipEventHistory = eventHistory;
-        this.status.set(status);
+        this.expiryDate = expiryDate;
+        this.membershipEventHistory = MembershipEventLog.copyOf(eventHistory);
+        this.status = status;
     }
 
     /**
-     * Constructor that sets joinDate to current date and expiryDate to 12 months later.
+     * Constructor that sets joinDate to {@code today} and expiryDate to 12 months later.
      */
-    public Membership(Person person, Club club) {
+    public Membership(Person person, Club club, LocalDate today) {
         Objects.requireNonNull(person);
         Objects.requireNonNull(club);
+        Objects.requireNonNull(today);
         this.person = person;
         this.club = club;
-        this.joinDate = LocalDate.now();
-        this.expiryDate.set(joinDate.plusMonths(DEFAULT_DURATION_IN_MONTHS)); // Default duration of 12 months
-        this.membershipEventHistory = new ArrayList<>();
-        this.status.set(MembershipStatus.ACTIVE);
+        this.joinDate = today;
+        this.expiryDate = joinDate.plusMonths(DEFAULT_DURATION_IN_MONTHS); // Default duration of 12 months
+        this.membershipEventHistory = new MembershipEventLog();
+        this.status = MembershipStatus.ACTIVE;
     }
 
     private boolean isValidMembershipDuration(int durationInMonths) {
@@ -109,34 +107,60 @@ public class Membership {
     }
 
     /**
-     * Checks if the membership is currently active.
-     * An active status and a current date before the expiry date are required.
-     * @return true if the membership is active, false otherwise.
+     * Returns true if the membership is active on {@code date}.
      */
-    public boolean isActive() {
-        return getStatus() == MembershipStatus.ACTIVE && LocalDate.now().isBefore(expiryDate.get());
+    public boolean isActive(LocalDate date) {
+        return getStatus() == MembershipStatus.ACTIVE && date.isBefore(expiryDate);
+    }
+
+    /**
+     * Returns the status this membership will have on {@code date} if nothing else changes it,
+     * without changing the membership.
+     */
+    public MembershipStatus getStatusAsOf(LocalDate date) {
+        MembershipStatus current = getStatus();
+        if (!date.isAfter(expiryDate)) {
+            return current;
+        }
+        if (current == MembershipStatus.ACTIVE) {
+            return MembershipStatus.EXPIRED;
+        }
+        if (current == MembershipStatus.PENDING_CANCELLATION) {
+            return MembershipStatus.CANCELLED;
+        }
+        return current;
     }
 
     /**
-     * Updates the status of the membership based on the current date.
-     * This should be called everytime we start the app.
+     * Updates the status of the membership as of {@code today}.
      */
-    public void updateStatus() {
-        if (getStatus() == MembershipStatus.ACTIVE && LocalDate.now().isAfter(expiryDate.get())) {
-            this.status.set(MembershipStatus.EXPIRED);
+    public void updateStatus(LocalDate today) {
+        MembershipStatus newStatus = getStatusAsOf(today);
+        if (newStatus == getStatus()) {
+            return;
+        }
+
+        setStatus(newStatus);
+        if (newStatus == MembershipStatus.EXPIRED) {
             logger.info("Membership for " + person.getName() + " has expired.");
-        } else if (getStatus() == MembershipStatus.PENDING_CANCELLATION
-                && LocalDate.now().isAfter(expiryDate.get())) {
-            this.status.set(MembershipStatus.CANCELLED);
+        } else {
             logger.info("Membership for " + person.getName() + " has been cancelled after pending cancellation.");
         }
     }
 
     /**
-     * Renews the membership. The behavior depends on the current status.
+     * Returns true if this membership changes status once its expiry date has passed,
+     * i.e. it is active or pending cancellation.
+     */
+    public boolean isAwaitingExpiry() {
+        return getStatus() == MembershipStatus.ACTIVE || getStatus() == MembershipStatus.PENDING_CANCELLATION;
+    }
+
+    /**
+     * Renews the membership on {@code today}. The behavior depends on the current status.
      * @param durationInMonths The number of months to extend the membership by.
      */
-    public void renew(int durationInMonths) {
+    public void renew(int durationInMonths, LocalDate today) {
         if (!isValidRenewalDuration(durationInMonths)) {
             throw new IllegalArgumentException("Renewal duration must be between "
                     + MINIMUM_RENEWAL_DURATION_IN_MONTHS + " and " + MAXIMUM_RENEWAL_DURATION_IN_MONTHS
@@ -150,64 +174,48 @@ public class Membership {
             throw new IllegalArgumentException("Membership has expired. Please reactivate instead.");
         }
 
-        LocalDate today = LocalDate.now();
         EventType eventType;
         LocalDate newExpiry;
         eventType = EventType.RENEW;
         // Extends the existing expiry date
         newExpiry = getExpiryDate().plusMonths(durationInMonths);
-        this.expiryDate.set(newExpiry);
-
-        // Create renew event record
-        MembershipEvent renewalEvent = new MembershipEvent(
-                eventType,
-                today,
-                durationInMonths,
-                newExpiry
-        );
-        this.membershipEventHistory.add(renewalEvent);
-        this.status.set(MembershipStatus.ACTIVE);
+        setExpiryDate(newExpiry);
+
+        this.membershipEventHistory.append(eventType, today, durationInMonths, newExpiry);
+        setStatus(MembershipStatus.ACTIVE);
         logger.info("Membership for " + person.getName() + " renewed. New expiry date: " + this.expiryDate);
     }
 
     /**
-     * Cancels the membership.
+     * Cancels the membership on {@code today}.
      */
-    public void cancel() {
+    public void cancel(LocalDate today) {
         if (getStatus() == MembershipStatus.CANCELLED) {
             throw new IllegalArgumentException(MESSAGE_ALREADY_CANCELLED);
         } else if (getStatus() == MembershipStatus.PENDING_CANCELLATION) {
             throw new IllegalArgumentException(MESSAGE_IS_PENDING_CANCELLATION);
         }
-        LocalDate today = LocalDate.now();
-        LocalDate expiry = this.expiryDate.get();
+        LocalDate expiry = this.expiryDate;
         // Check if expiry date is in the past
         if (today.isAfter(expiry)) {
-            this.status.set(MembershipStatus.CANCELLED);
+            setStatus(MembershipStatus.CANCELLED);
             logger.info("Membership for " + person.getName() + " has been cancelled.");
         } else {
-            this.status.set(MembershipStatus.PENDING_CANCELLATION);
+            setStatus(MembershipStatus.PENDING_CANCELLATION);
             logger.info("Membership for " + person.getName() + " is pending cancellation until expiry date: "
                     + expiry);
         }
         EventType eventType = EventType.CANCEL;
         int durationInMonths = 0;
 
-        // Create cancel event record
-        MembershipEvent cancelEvent = new MembershipEvent(
-                eventType,
-                today,
-                durationInMonths,
-                expiry
-        );
-        this.membershipEventHistory.add(cancelEvent);
+        this.membershipEventHistory.append(eventType, today, durationInMonths, expiry);
     }
 
     /**
-     * Reactivates an expired or cancelled membership.
+     * Reactivates an expired or cancelled membership on {@code today}.
      * @param durationInMonths The duration in months for the reactivated membership.
      */
-    public void reactivate(int durationInMonths) {
+    public void reactivate(int durationInMonths, LocalDate today) {
         if (getStatus() == MembershipStatus.ACTIVE) {
             throw new IllegalArgumentException(MESSAGE_INVALID_STATUS_FOR_REACTIVATION);
         }
@@ -217,9 +225,8 @@ public class Membership {
                     + " months.");
         }
 
-        LocalDate today = LocalDate.now();
         LocalDate newExpiry;
-        if (today.isAfter(expiryDate.get())) {
+        if (today.isAfter(expiryDate)) {
             // If previously expired, start new period from today
             logger.info("Expiry date was in the past, setting new expiry date from today.");
             newExpiry = today.plusMonths(durationInMonths);
@@ -228,20 +235,13 @@ public class Membership {
             logger.info("Expiry date was in the future, extending from current expiry date.");
             newExpiry = getExpiryDate().plusMonths(durationInMonths);
         }
-        this.expiryDate.set(newExpiry);
+        setExpiryDate(newExpiry);
 
         EventType eventType;
         eventType = EventType.REACTIVATE;
 
-        // Create reactivate event record
-        MembershipEvent reactivateEvent = new MembershipEvent(
-                eventType,
-                today,
-                durationInMonths,
-                newExpiry
-        );
-        this.membershipEventHistory.add(reactivateEvent);
-        this.status.set(MembershipStatus.ACTIVE);
+        this.membershipEventHistory.append(eventType, today, durationInMonths, newExpiry);
+        setStatus(MembershipStatus.ACTIVE);
         logger.info("Membership for " + person.getName() + " reactivated. New expiry date: " + this.expiryDate);
     }
 
@@ -258,23 +258,104 @@ public class Membership {
     }
 
     public LocalDate getExpiryDate() {
-        return expiryDate.get();
+        return expiryDate;
+    }
+
+    private void setExpiryDate(LocalDate newExpiryDate) {
+        if (expiryDateProperty != null) {
+            expiryDateProperty.set(newExpiryDate);
+        } else if (!newExpiryDate.equals(expiryDate)) {
+            expiryDate = newExpiryDate;
+            person.refreshMembership(this);
+        }
     }
 
+    /**
+     * Returns the events of this membership, oldest first, as a list that cannot be modified.
+     */
     public List<MembershipEvent> getMembershipEventHistory() {
         return membershipEventHistory;
     }
 
+    /**
+     * Folds the renewals and reactivations dated before {@code cutoff} into a single summary event, so that
+     * the history of a long-lived membership stays short. Returns the number of events removed.
+     */
+    public int compactHistory(LocalDate cutoff) {
+        return membershipEventHistory.compact(cutoff);
+    }
+
     public MembershipStatus getStatus() {
-        return status.get();
+        return status;
     }
 
+    private void setStatus(MembershipStatus newStatus) {
+        if (statusProperty != null) {
+            statusProperty.set(newStatus);
+        } else if (newStatus != status) {
+            MembershipStatus oldStatus = status;
+            status = newStatus;
+            onStatusChanged(oldStatus);
+        }
+    }
+
+    private void onStatusChanged(MembershipStatus oldStatus) {
+        club.refreshMembership(this, oldStatus);
+        person.refreshMembership(this);
+    }
+
+    /**
+     * Returns the expiry date as a property, creating it on the first call.
+     */
     public ObjectProperty<LocalDate> expiryDateProperty() {
-        return expiryDate;
+        if (expiryDateProperty == null) {
+            expiryDateProperty = new SimpleObjectProperty<>(this, "expiryDate", expiryDate);
+            expiryDateProperty.addListener((unused, oldExpiryDate, newExpiryDate) -> {
+                expiryDate = newExpiryDate;
+                person.refreshMembership(this);
+            });
+        }
+        return expiryDateProperty;
     }
 
+    /**
+     * Returns the status as a property, creating it on the first call.
+     */
     public ObjectProperty<MembershipStatus> statusProperty() {
-        return status;
+        if (statusProperty == null) {
+            statusProperty = new SimpleObjectProperty<>(this, "status", status);
+            statusProperty.addListener((unused, oldStatus, newStatus) -> {
+                status = newStatus;
+                onStatusChanged(oldStatus);
+            });
+        }
+        return statusProperty;
+    }
+
+    /**
+     * Points this membership at {@code person}, the edited version of its current person.
+     */
+    void relinkPerson(Person person) {
+        this.person = person;
+        key = null;
+    }
+
+    /**
+     * Points this membership at {@code club}, the edited version of its current club.
+     */
+    void relinkClub(Club club) {
+        this.club = club;
+        key = null;
+    }
+
+    /**
+     * Returns the key identifying this membership by its person and club.
+     */
+    MembershipKey getKey() {
+        if (key == null) {
+            key = MembershipKey.of(person, club);
+        }
+        return key;
     }
 
     public String getClubName() {
@@ -12,6 +12,8 @@ public class MembershipEvent {
     private final LocalDate eventDate;
     private final int monthsAdded; // Duration added
     private final LocalDate newExpiryDate; // The resulting expiry date after this event
+    private final int eventCount; // Number of events this stands for, more than one only for a summary
+    private final LocalDate firstEventDate; // Date of the earliest event this stands for
 
     /**
      * Constructor for MembershipEvent.
@@ -21,12 +23,31 @@ public class MembershipEvent {
      * @param newExpiryDate
      */
     public MembershipEvent(EventType eventType, LocalDate eventDate, int monthsAdded, LocalDate newExpiryDate) {
+        this(eventType, eventDate, eventDate, 1, monthsAdded, newExpiryDate);
+    }
+
+    private MembershipEvent(EventType eventType, LocalDate firstEventDate, LocalDate eventDate, int eventCount,
+                            int monthsAdded, LocalDate newExpiryDate) {
         this.eventType = eventType;
+        this.firstEventDate = firstEventDate;
         this.eventDate = eventDate;
+        this.eventCount = eventCount;
         this.monthsAdded = monthsAdded;
         this.newExpiryDate = newExpiryDate;
     }
 
+    /**
+     * Returns a {@code SUMMARY} event standing for {@code eventCount} renewals and reactivations between
+     * {@code firstEventDate} and {@code lastEventDate}, which added {@code monthsAdded} months in total.
+     *
+     * @param newExpiryDate The expiry date after the last of the summarised events.
+     */
+    public static MembershipEvent summary(LocalDate firstEventDate, LocalDate lastEventDate, int eventCount,
+                                          int monthsAdded, LocalDate newExpiryDate) {
+        return new MembershipEvent(EventType.SUMMARY, firstEventDate, lastEventDate, eventCount, monthsAdded,
+                newExpiryDate);
+    }
+
     public EventType getEventType() {
         return eventType;
     }
@@ -43,8 +64,28 @@ public class MembershipEvent {
         return newExpiryDate;
     }
 
+    /**
+     * Returns the number of events this event stands for, which is 1 unless this is a summary.
+     */
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * Returns the date of the earliest event this event stands for, which is the event date unless this
+     * is a summary.
+     */
+    public LocalDate getFirstEventDate() {
+        return firstEventDate;
+    }
+
     @Override
     public String toString() {
+        if (eventType == EventType.SUMMARY) {
+            return String.format("[%s] %d renewals/reactivations totalling %d months between %s and %s. "
+                    + "New Expiry: %s",
+                    eventType, eventCount, monthsAdded, firstEventDate, eventDate, newExpiryDate);
+        }
         return String.format("[%s] on %s: Added %d months. New Expiry: %s",
                 eventType, eventDate, monthsAdded, newExpiryDate);
     }
@@ -59,13 +100,15 @@ public class MembershipEvent {
         }
         MembershipEvent that = (MembershipEvent) o;
         return monthsAdded == that.monthsAdded
+                && eventCount == that.eventCount
                 && eventType == that.eventType
+                && Objects.equals(firstEventDate, that.firstEventDate)
                 && Objects.equals(eventDate, that.eventDate)
                 && Objects.equals(newExpiryDate, that.newExpiryDate);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(eventType, eventDate, monthsAdded, newExpiryDate);
+        return Objects.hash(eventType, firstEventDate, eventDate, eventCount, monthsAdded, newExpiryDate);
     }
 }
@@ -0,0 +1,219 @@
+package seedu.address.model.membership;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * The history of a membership, stored as three ints per event rather than as {@code MembershipEvent} objects.
+ * Each event keeps its date and resulting expiry date as epoch days, and its type and months added
+ * packed into one int. Events are appended, except that {@link #compact(LocalDate)} folds old renewals
+ * and reactivations into a single {@code SUMMARY} event, whose count and first date are kept in fields
+ * since a log holds at most one summary.
+ * Reading the log as a list creates {@code MembershipEvent}s on demand; the list cannot be modified.
+ *
+ * Copies share the backing array until one of them is changed.
+ */
+final class MembershipEventLog extends AbstractList<MembershipEvent> implements RandomAccess {
+
+    private static final int INTS_PER_EVENT = 3;
+    private static final int INITIAL_CAPACITY = 4;
+    private static final EventType[] EVENT_TYPES = EventType.values();
+
+    private int[] events;
+    private int size;
+    private boolean isShared;
+
+    // Only meaningful while the log holds a summary
+    private boolean hasSummary;
+    private int summaryFirstDay;
+    private int summaryCount;
+    private int summaryMonths;
+
+    MembershipEventLog() {
+        this.events = new int[INITIAL_CAPACITY * INTS_PER_EVENT];
+    }
+
+    private MembershipEventLog(int[] events, int size) {
+        this.events = events;
+        this.size = size;
+    }
+
+    /**
+     * Returns a log holding {@code history}, sharing the backing array if {@code history} is already a log.
+     */
+    static MembershipEventLog copyOf(List<MembershipEvent> history) {
+        requireNonNull(history);
+        if (history instanceof MembershipEventLog) {
+            return ((MembershipEventLog) history).copy();
+        }
+
+        MembershipEventLog log = new MembershipEventLog();
+        for (MembershipEvent event : history) {
+            if (event.getEventType() == EventType.SUMMARY) {
+                log.appendSummary(event.getFirstEventDate(), event.getEventDate(), event.getEventCount(),
+                        event.getMonthsAdded(), event.getNewExpiryDate());
+            } else {
+                log.append(event.getEventType(), event.getEventDate(), event.getMonthsAdded(),
+                        event.getNewExpiryDate());
+            }
+        }
+        return log;
+    }
+
+    /**
+     * Returns a log with the same events, sharing the backing array until either log is appended to.
+     */
+    MembershipEventLog copy() {
+        isShared = true;
+        MembershipEventLog copy = new MembershipEventLog(events, size);
+        copy.isShared = true;
+        copy.setSummary(hasSummary, summaryFirstDay, summaryCount, summaryMonths);
+        return copy;
+    }
+
+    /**
+     * Adds an event to the end of the log.
+     */
+    void append(EventType eventType, LocalDate eventDate, int monthsAdded, LocalDate newExpiryDate) {
+        requireAllNonNull(eventType, eventDate, newExpiryDate);
+        checkArgument(eventType != EventType.SUMMARY, "Summaries are added with appendSummary");
+        checkArgument(monthsAdded == (short) monthsAdded, "Months added is out of range: " + monthsAdded);
+        appendPacked(toDay(eventDate), toDay(newExpiryDate), eventType.ordinal() << 16 | (monthsAdded & 0xFFFF));
+    }
+
+    /**
+     * Adds a summary of {@code eventCount} events between {@code firstEventDate} and {@code lastEventDate}
+     * to the end of the log, which must not already hold a summary.
+     */
+    void appendSummary(LocalDate firstEventDate, LocalDate lastEventDate, int eventCount, int monthsAdded,
+                       LocalDate newExpiryDate) {
+        requireAllNonNull(firstEventDate, lastEventDate, newExpiryDate);
+        checkArgument(!hasSummary, "A membership history holds at most one summary");
+        checkArgument(eventCount > 0, "A summary must stand for at least one event");
+        appendPacked(toDay(lastEventDate), toDay(newExpiryDate), EventType.SUMMARY.ordinal() << 16);
+        setSummary(true, toDay(firstEventDate), eventCount, monthsAdded);
+    }
+
+    /**
+     * Folds the renewals, reactivations and any earlier summary dated before {@code cutoff} into one summary,
+     * placed where the last of them was, so that the log stays in date order. Joins and cancellations are kept
+     * as they are.
+     * Returns the number of events removed, which is 0 if fewer than two events could be folded.
+     */
+    int compact(LocalDate cutoff) {
+        requireNonNull(cutoff);
+        int cutoffDay = toDay(cutoff);
+        int lastFolded = -1;
+        int foldable = 0;
+        for (int i = 0; i < size; i++) {
+            if (isFoldable(i, cutoffDay)) {
+                lastFolded = i;
+                foldable++;
+            }
+        }
+        if (foldable < 2) {
+            return 0;
+        }
+
+        int[] compacted = new int[events.length];
+        int kept = 0;
+        int firstDay = Integer.MAX_VALUE;
+        int lastDay = Integer.MIN_VALUE;
+        int expiryDay = 0;
+        int count = 0;
+        int months = 0;
+        for (int i = 0; i < size; i++) {
+            int offset = i * INTS_PER_EVENT;
+            if (isFoldable(i, cutoffDay)) {
+                boolean isSummary = typeOf(events[offset + 2]) == EventType.SUMMARY;
+                firstDay = Math.min(firstDay, isSummary ? summaryFirstDay : events[offset]);
+                lastDay = Math.max(lastDay, events[offset]);
+                expiryDay = events[offset + 1];
+                count += isSummary ? summaryCount : 1;
+                months += isSummary ? summaryMonths : (short) events[offset + 2];
+                if (i == lastFolded) {
+                    // Every folded event has been counted by now
+                    int summaryOffset = kept * INTS_PER_EVENT;
+                    compacted[summaryOffset] = lastDay;
+                    compacted[summaryOffset + 1] = expiryDay;
+                    compacted[summaryOffset + 2] = EventType.SUMMARY.ordinal() << 16;
+                    kept++;
+                }
+                continue;
+            }
+            System.arraycopy(events, offset, compacted, kept * INTS_PER_EVENT, INTS_PER_EVENT);
+            kept++;
+        }
+
+        events = compacted;
+        size = kept;
+        isShared = false;
+        setSummary(true, firstDay, count, months);
+        return foldable - 1;
+    }
+
+    private boolean isFoldable(int index, int cutoffDay) {
+        int offset = index * INTS_PER_EVENT;
+        EventType eventType = typeOf(events[offset + 2]);
+        return events[offset] < cutoffDay && (eventType == EventType.RENEW || eventType == EventType.REACTIVATE
+                || eventType == EventType.SUMMARY);
+    }
+
+    private void setSummary(boolean hasSummary, int firstDay, int count, int months) {
+        this.hasSummary = hasSummary;
+        this.summaryFirstDay = firstDay;
+        this.summaryCount = count;
+        this.summaryMonths = months;
+    }
+
+    private void appendPacked(int eventDay, int expiryDay, int typeAndMonths) {
+        int offset = size * INTS_PER_EVENT;
+        if (offset == events.length) {
+            events = Arrays.copyOf(events, Math.max(events.length * 2, INITIAL_CAPACITY * INTS_PER_EVENT));
+            isShared = false;
+        } else if (isShared) {
+            events = events.clone();
+            isShared = false;
+        }
+        events[offset] = eventDay;
+        events[offset + 1] = expiryDay;
+        events[offset + 2] = typeAndMonths;
+        size++;
+    }
+
+    private static int toDay(LocalDate date) {
+        return Math.toIntExact(date.toEpochDay());
+    }
+
+    private static EventType typeOf(int typeAndMonths) {
+        return EVENT_TYPES[typeAndMonths >>> 16];
+    }
+
+    @Override
+    public MembershipEvent get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int offset = index * INTS_PER_EVENT;
+        int typeAndMonths = events[offset + 2];
+        EventType eventType = typeOf(typeAndMonths);
+        if (eventType == EventType.SUMMARY) {
+            return MembershipEvent.summary(LocalDate.ofEpochDay(summaryFirstDay), LocalDate.ofEpochDay(events[offset]),
+                    summaryCount, summaryMonths, LocalDate.ofEpochDay(events[offset + 1]));
+        }
+        return new MembershipEvent(eventType, LocalDate.ofEpochDay(events[offset]),
+                (short) typeAndMonths, LocalDate.ofEpochDay(events[offset + 1]));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.model.membership;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.model.club.Club;
+import seedu.address.model.person.Person;
+
+/**
+ * Identifies a membership by the ids of its person and club, so that memberships can be
+ * hashed and compared without touching any field of the underlying {@code Person} and {@code Club}.
+ */
+final class MembershipKey {
+
+    private final long personId;
+    private final long clubId;
+
+    private MembershipKey(long personId, long clubId) {
+        this.personId = personId;
+        this.clubId = clubId;
+    }
+
+    /**
+     * Returns the key of a membership of {@code person} in {@code club}.
+     */
+    static MembershipKey of(Person person, Club club) {
+        requireAllNonNull(person, club);
+        return new MembershipKey(person.getId(), club.getId());
+    }
+
+    long getPersonId() {
+        return personId;
+    }
+
+    long getClubId() {
+        return clubId;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MembershipKey)) {
+            return false;
+        }
+
+        MembershipKey otherKey = (MembershipKey) other;
+        return personId == otherKey.personId && clubId == otherKey.clubId;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(personId) + Long.hashCode(clubId);
+    }
+}
@@ -3,9 +3,19 @@ package seedu.address.model.membership;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -16,12 +26,22 @@ import seedu.address.model.person.Person;
 
 /**
  * A list of memberships that enforces uniqueness between its elements and does not allow nulls.
- * A membership is considered unique by comparing using {@code Membership#equals(Object)}.
- * As such, adding and updating of memberships uses Membership#equals(Object) for equality so as to ensure that
+ * A membership is considered unique by the ids of its person and club, see {@code MembershipKey}.
+ * As such, adding and updating of memberships compares membership keys so as to ensure that
  * the membership being added or updated is unique in terms of identity in the UniqueMembershipList.
- * However, the removal of a membership also uses Membership#equals(Object) so as to ensure that the
+ * However, the removal of a membership uses Membership#equals(Object) so as to ensure that the
  * membership with exactly the same fields will be removed.
  *
+ * Each membership key is mapped to the position of its membership in the list, so lookups and
+ * replacements and removals do not scan the list. The keys are also grouped by person and by club, so the
+ * memberships of a single person or club can be found without scanning the list.
+ * Memberships awaiting expiry are queued by expiry date, once each, so a status update only visits those
+ * that are due.
+ *
+ * Between {@link #beginBatch()} and {@link #endBatch()}, added memberships are held back from the observable
+ * list and appended to it in one change when the batch ends, or earlier if the list is read or changed in
+ * another way. Lookups by person and club see them at once.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Membership#equals(Object)
@@ -31,12 +51,27 @@ public class UniqueMembershipList implements Iterable<Membership> {
     private final ObservableList<Membership> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Membership key -> index in internalList, kept in sync with internalList
+    private final Map<MembershipKey, Integer> positions = new HashMap<>();
+    // Person id / club id -> keys of that entity's memberships, in insertion order
+    private final Map<Long, Set<MembershipKey>> keysByPerson = new HashMap<>();
+    private final Map<Long, Set<MembershipKey>> keysByClub = new HashMap<>();
+    // Memberships awaiting expiry, earliest expiry first, with at most one entry per listed membership.
+    // Entries are dropped when their membership is removed, replaced or rescheduled; a renewal or cancellation
+    // is checked against the membership when its entry comes due.
+    private final TreeSet<ExpiryEntry> expiryQueue = new TreeSet<>();
+    private final Map<Membership, ExpiryEntry> expiryEntries = new IdentityHashMap<>();
+    private long nextEntrySequence;
+    // Memberships added during a batch but not yet in internalList. Their positions follow those in internalList.
+    private final List<Membership> staged = new ArrayList<>();
+    private boolean isBatching;
+
     /**
      * Returns true if the list contains an equivalent membership as the given argument.
      */
     public boolean contains(Membership toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return positions.containsKey(toCheck.getKey());
     }
 
     /**
@@ -48,15 +83,39 @@ public class UniqueMembershipList implements Iterable<Membership> {
         if (contains(toAdd)) {
             throw new DuplicateMembershipException();
         }
-        internalList.add(toAdd);
+        positions.put(toAdd.getKey(), internalList.size() + staged.size());
+        if (isBatching) {
+            staged.add(toAdd);
+        } else {
+            internalList.add(toAdd);
+        }
+        link(toAdd.getKey());
+        schedule(toAdd);
     }
 
+    /**
+     * Returns the membership of {@code person} in {@code club}, if any.
+     */
     public Optional<Membership> getMembershipByPersonClub(Person person, Club club) {
         requireAllNonNull(person, club);
-        return internalList.stream()
-                .filter(membership -> membership.getPerson().equals(person)
-                        && membership.getClub().equals(club))
-                .findFirst();
+        Integer index = positions.get(MembershipKey.of(person, club));
+        return index == null ? Optional.empty() : Optional.of(membershipAt(index));
+    }
+
+    /**
+     * Returns the memberships of {@code person}, in the order they were added.
+     */
+    public List<Membership> getMembershipsOf(Person person) {
+        requireNonNull(person);
+        return resolve(keysByPerson.get(person.getId()));
+    }
+
+    /**
+     * Returns the memberships of {@code club}, in the order they were added.
+     */
+    public List<Membership> getMembershipsOf(Club club) {
+        requireNonNull(club);
+        return resolve(keysByClub.get(club.getId()));
     }
 
     /**
@@ -67,50 +126,226 @@ public class UniqueMembershipList implements Iterable<Membership> {
      */
     public void setMembership(Membership target, Membership editedMembership) {
         requireAllNonNull(target, editedMembership);
+        appendStaged();
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new MembershipNotFoundException();
         }
 
-        if (!target.equals(editedMembership) && contains(editedMembership)) {
+        if (!target.getKey().equals(editedMembership.getKey()) && contains(editedMembership)) {
             throw new DuplicateMembershipException();
         }
 
+        unschedule(internalList.get(index));
         internalList.set(index, editedMembership);
+        reindex(target.getKey(), editedMembership.getKey(), index);
+        schedule(editedMembership);
+    }
+
+    /**
+     * Queues {@code membership} for the next status update if it is awaiting expiry.
+     * Call this when a listed membership that was not awaiting expiry, e.g. an expired one, becomes so again.
+     * Memberships that are renewed while awaiting expiry need not be rescheduled.
+     */
+    public void reschedule(Membership membership) {
+        requireNonNull(membership);
+        if (!isListed(membership)) {
+            throw new MembershipNotFoundException();
+        }
+        schedule(membership);
+    }
+
+    /**
+     * Updates the status of every membership whose expiry date is before {@code today}, and returns
+     * the number of memberships that changed status. Only memberships that are due are visited.
+     */
+    public int updateStatuses(LocalDate today) {
+        List<Membership> due = takeDue(today);
+        due.forEach(membership -> membership.updateStatus(today));
+        return due.size();
+    }
+
+    /**
+     * Takes the memberships whose expiry date is before {@code today} off the expiry queue, and returns
+     * those whose status changes as of {@code today}, without changing any membership.
+     * The returned memberships are not queued again, so each must then be updated with
+     * {@link Membership#updateStatus(LocalDate)}.
+     */
+    public List<Membership> takeDue(LocalDate today) {
+        requireNonNull(today);
+        List<Membership> due = new ArrayList<>();
+        while (!expiryQueue.isEmpty() && expiryQueue.first().expiryDate.isBefore(today)) {
+            Membership membership = expiryQueue.pollFirst().membership;
+            expiryEntries.remove(membership);
+            if (!membership.isAwaitingExpiry()) {
+                continue;
+            }
+            if (!membership.getExpiryDate().isBefore(today)) {
+                // Renewed since it was queued, so it is due again at its new expiry date
+                schedule(membership);
+                continue;
+            }
+            due.add(membership);
+        }
+        return due;
+    }
+
+    /**
+     * Compacts the history of every membership as of {@code cutoff}, and returns the number of events removed.
+     *
+     * @see Membership#compactHistory(LocalDate)
+     */
+    public int compactHistories(LocalDate cutoff) {
+        requireNonNull(cutoff);
+        int removed = 0;
+        for (Membership membership : internalList) {
+            removed += membership.compactHistory(cutoff);
+        }
+        return removed;
+    }
+
+    /**
+     * Points every membership of {@code target} at {@code editedPerson} instead, keeping each membership
+     * in place, and returns the relinked memberships.
+     * {@code editedPerson} must not already have a membership in the same club as {@code target}.
+     */
+    public List<Membership> relinkPerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        appendStaged();
+        List<Membership> owned = getMembershipsOf(target);
+        for (Membership membership : owned) {
+            MembershipKey oldKey = membership.getKey();
+            membership.relinkPerson(editedPerson);
+            refresh(oldKey, membership);
+        }
+        return owned;
+    }
+
+    /**
+     * Points every membership of {@code target} at {@code editedClub} instead, keeping each membership
+     * in place, and returns the relinked memberships.
+     * {@code editedClub} must not already have a membership of the same person as {@code target}.
+     */
+    public List<Membership> relinkClub(Club target, Club editedClub) {
+        requireAllNonNull(target, editedClub);
+        appendStaged();
+        List<Membership> owned = getMembershipsOf(target);
+        for (Membership membership : owned) {
+            MembershipKey oldKey = membership.getKey();
+            membership.relinkClub(editedClub);
+            refresh(oldKey, membership);
+        }
+        return owned;
     }
 
     /**
      * Removes the equivalent membership from the list.
      * The membership must exist in the list.
+     * The last membership in the list takes the place of the removed one.
      */
     public void remove(Membership toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        appendStaged();
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new MembershipNotFoundException();
         }
+
+        unschedule(internalList.get(index));
+        // Moves the last membership into the freed slot, so no other position changes
+        int lastIndex = internalList.size() - 1;
+        if (index != lastIndex) {
+            Membership last = internalList.get(lastIndex);
+            internalList.set(index, last);
+            positions.put(last.getKey(), index);
+        }
+        internalList.remove(lastIndex);
+        positions.remove(toRemove.getKey());
+        unlink(toRemove.getKey());
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setMemberships(UniqueMembershipList replacement) {
         requireNonNull(replacement);
+        appendStaged();
+        replacement.appendStaged();
         internalList.setAll(replacement.internalList);
+        positions.clear();
+        positions.putAll(replacement.positions);
+        copyAdjacency(replacement.keysByPerson, keysByPerson);
+        copyAdjacency(replacement.keysByClub, keysByClub);
+        expiryQueue.clear();
+        expiryEntries.clear();
+        replacement.expiryEntries.keySet().forEach(this::schedule);
     }
 
     /**
      * Replaces the contents of this list with {@code memberships}.
      * {@code memberships} must not contain duplicate memberships.
+     * Uniqueness is checked in a single pass, and the list is left unchanged if any duplicates are found.
+     *
+     * @throws DuplicateMembershipException listing every membership that has the same key as an earlier one.
      */
     public void setMemberships(List<Membership> memberships) {
         requireAllNonNull(memberships);
-        if (!membershipsAreUnique(memberships)) {
-            throw new DuplicateMembershipException();
+        Map<MembershipKey, Integer> newPositions = new HashMap<>();
+        List<Membership> duplicates = new ArrayList<>();
+        for (int i = 0; i < memberships.size(); i++) {
+            if (newPositions.putIfAbsent(memberships.get(i).getKey(), i) != null) {
+                duplicates.add(memberships.get(i));
+            }
+        }
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateMembershipException(duplicates);
         }
 
+        staged.clear();
         internalList.setAll(memberships);
+        positions.clear();
+        positions.putAll(newPositions);
+        keysByPerson.clear();
+        keysByClub.clear();
+        memberships.forEach(membership -> link(membership.getKey()));
+        expiryQueue.clear();
+        expiryEntries.clear();
+        memberships.forEach(this::schedule);
+    }
+
+    /**
+     * Returns the status each membership will have on {@code date}, in list order, in one pass
+     * and without changing any membership.
+     */
+    public List<MembershipStatus> getStatusesAsOf(LocalDate date) {
+        requireNonNull(date);
+        appendStaged();
+        MembershipStatus[] statuses = new MembershipStatus[internalList.size()];
+        for (int i = 0; i < statuses.length; i++) {
+            statuses[i] = internalList.get(i).getStatusAsOf(date);
+        }
+        return Collections.unmodifiableList(Arrays.asList(statuses));
+    }
+
+    /**
+     * Holds back memberships added from now on from the observable list until {@link #endBatch()}.
+     */
+    public void beginBatch() {
+        isBatching = true;
+    }
+
+    /**
+     * Appends the memberships added since {@link #beginBatch()} to the observable list in one change.
+     */
+    public void endBatch() {
+        isBatching = false;
+        appendStaged();
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * During a batch, it may not show the memberships added so far.
      */
     public ObservableList<Membership> asUnmodifiableObservableList() {
         return internalUnmodifiableList;
@@ -118,6 +353,7 @@ public class UniqueMembershipList implements Iterable<Membership> {
 
     @Override
     public Iterator<Membership> iterator() {
+        appendStaged();
         return internalList.iterator();
     }
 
@@ -133,30 +369,153 @@ public class UniqueMembershipList implements Iterable<Membership> {
         }
 
         UniqueMembershipList otherUniqueMembershipList = (UniqueMembershipList) other;
+        appendStaged();
+        otherUniqueMembershipList.appendStaged();
         return internalList.equals(otherUniqueMembershipList.internalList);
     }
 
     @Override
     public int hashCode() {
+        appendStaged();
         return internalList.hashCode();
     }
 
     @Override
     public String toString() {
+        appendStaged();
         return internalList.toString();
     }
 
     /**
-     * Returns true if {@code memberships} contains only unique memberships.
+     * Moves the index entries of the membership at {@code index} from {@code oldKey} to {@code newKey}.
      */
-    private boolean membershipsAreUnique(List<Membership> memberships) {
-        for (int i = 0; i < memberships.size() - 1; i++) {
-            for (int j = i + 1; j < memberships.size(); j++) {
-                if (memberships.get(i).equals(memberships.get(j))) {
-                    return false;
-                }
-            }
+    private void reindex(MembershipKey oldKey, MembershipKey newKey, int index) {
+        if (oldKey.equals(newKey)) {
+            return;
+        }
+        positions.remove(oldKey);
+        positions.put(newKey, index);
+        unlink(oldKey);
+        link(newKey);
+    }
+
+    /**
+     * Reindexes a membership whose person or club was relinked, and notifies listeners that it changed.
+     * When the relinked entity kept its id, the key is unchanged and only the notification is needed.
+     */
+    private void refresh(MembershipKey oldKey, Membership membership) {
+        int index = positions.get(oldKey);
+        reindex(oldKey, membership.getKey(), index);
+        internalList.set(index, membership);
+    }
+
+    private void appendStaged() {
+        if (staged.isEmpty()) {
+            return;
+        }
+        internalList.addAll(staged);
+        staged.clear();
+    }
+
+    private Membership membershipAt(int index) {
+        return index < internalList.size() ? internalList.get(index) : staged.get(index - internalList.size());
+    }
+
+    /**
+     * Returns the number of memberships queued for a status update.
+     */
+    int getScheduledCount() {
+        return expiryQueue.size();
+    }
+
+    /**
+     * Queues {@code membership} at its current expiry date if it is awaiting expiry, replacing any earlier entry.
+     */
+    private void schedule(Membership membership) {
+        unschedule(membership);
+        if (membership.isAwaitingExpiry()) {
+            ExpiryEntry entry = new ExpiryEntry(membership, nextEntrySequence++);
+            expiryQueue.add(entry);
+            expiryEntries.put(membership, entry);
+        }
+    }
+
+    private void unschedule(Membership membership) {
+        ExpiryEntry entry = expiryEntries.remove(membership);
+        if (entry != null) {
+            expiryQueue.remove(entry);
+        }
+    }
+
+    /**
+     * Returns true if {@code membership} itself, rather than an equal membership, is in the list.
+     */
+    private boolean isListed(Membership membership) {
+        Integer index = positions.get(membership.getKey());
+        return index != null && membershipAt(index) == membership;
+    }
+
+    private void link(MembershipKey key) {
+        keysByPerson.computeIfAbsent(key.getPersonId(), k -> new LinkedHashSet<>()).add(key);
+        keysByClub.computeIfAbsent(key.getClubId(), k -> new LinkedHashSet<>()).add(key);
+    }
+
+    private void unlink(MembershipKey key) {
+        unlink(keysByPerson, key.getPersonId(), key);
+        unlink(keysByClub, key.getClubId(), key);
+    }
+
+    private static void unlink(Map<Long, Set<MembershipKey>> adjacency, long entityKey, MembershipKey key) {
+        Set<MembershipKey> keys = adjacency.get(entityKey);
+        if (keys != null && keys.remove(key) && keys.isEmpty()) {
+            adjacency.remove(entityKey);
+        }
+    }
+
+    private static void copyAdjacency(Map<Long, Set<MembershipKey>> source,
+                                      Map<Long, Set<MembershipKey>> target) {
+        target.clear();
+        source.forEach((entityKey, keys) -> target.put(entityKey, new LinkedHashSet<>(keys)));
+    }
+
+    private List<Membership> resolve(Set<MembershipKey> keys) {
+        if (keys == null) {
+            return List.of();
+        }
+        List<Membership> resolved = new ArrayList<>(keys.size());
+        for (MembershipKey key : keys) {
+            resolved.add(membershipAt(positions.get(key)));
+        }
+        return resolved;
+    }
+
+    /**
+     * Returns the index of the membership equal to {@code membership}, or -1 if there is none.
+     */
+    private int indexOf(Membership membership) {
+        Integer index = positions.get(membership.getKey());
+        return index != null && membershipAt(index).equals(membership) ? index : -1;
+    }
+
+    /**
+     * A membership queued for a status update, with the expiry date it had when it was queued.
+     * Entries with the same expiry date are ordered by when they were queued.
+     */
+    private static class ExpiryEntry implements Comparable<ExpiryEntry> {
+        private final LocalDate expiryDate;
+        private final Membership membership;
+        private final long sequence;
+
+        ExpiryEntry(Membership membership, long sequence) {
+            this.expiryDate = membership.getExpiryDate();
+            this.membership = membership;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(ExpiryEntry other) {
+            int byDate = expiryDate.compareTo(other.expiryDate);
+            return byDate != 0 ? byDate : Long.compare(sequence, other.sequence);
         }
-        return true;
     }
 }
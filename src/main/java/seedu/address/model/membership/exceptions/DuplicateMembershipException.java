@@ -1,11 +1,34 @@
 package seedu.address.model.membership.exceptions;
 
+import java.util.List;
+
+import seedu.address.model.membership.Membership;
+
 /**
  * Signals that the operation will result in duplicate Memberships
  * (Memberships are considered duplicates if they have the same identity).
  */
 public class DuplicateMembershipException extends RuntimeException {
+    private final List<Membership> duplicates;
+
     public DuplicateMembershipException() {
         super("Operation would result in duplicate memberships");
+        duplicates = List.of();
+    }
+
+    /**
+     * Constructs an exception reporting every {@code Membership} in {@code duplicates}
+     * that clashes with an earlier one.
+     */
+    public DuplicateMembershipException(List<Membership> duplicates) {
+        super("Operation would result in duplicate memberships: " + duplicates);
+        this.duplicates = List.copyOf(duplicates);
+    }
+
+    /**
+     * Returns the duplicates that caused this exception, or an empty list if they were not recorded.
+     */
+    public List<Membership> getDuplicates() {
+        return duplicates;
     }
 }
@@ -3,23 +3,44 @@ package seedu.address.model.person;
 import java.util.List;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.field.FilterKeyword;
+import seedu.address.model.util.RefinablePredicate;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
-public class FilterPersonPredicate implements Predicate<Person> {
+public class FilterPersonPredicate implements RefinablePredicate<Person> {
     private final List<String> keywords;
+    private final List<FilterKeyword> filterKeywords;
 
+    /**
+     * Creates a filter matching persons with any of {@code keywords}, each a field prefix followed by
+     * the text to look for in that field.
+     */
     public FilterPersonPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.filterKeywords = keywords.stream().map(FilterKeyword::of).toList();
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.matchPersonByKeyword(person, keyword));
+        for (int i = 0; i < filterKeywords.size(); i++) {
+            if (filterKeywords.get(i).matches(person)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code other} is a filter with all of the keywords of this one. As a person matching any
+     * keyword is accepted, this filter accepts no more.
+     */
+    @Override
+    public boolean refines(Predicate<?> other) {
+        return other instanceof FilterPersonPredicate
+                && ((FilterPersonPredicate) other).keywords.containsAll(keywords);
     }
 
     @Override
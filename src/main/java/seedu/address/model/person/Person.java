@@ -1,37 +1,43 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
+import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import javafx.util.Callback;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.club.Club;
 import seedu.address.model.field.Address;
 import seedu.address.model.field.Email;
 import seedu.address.model.field.Name;
 import seedu.address.model.field.Phone;
+import seedu.address.model.field.SearchProjection;
 import seedu.address.model.field.Searchable;
 import seedu.address.model.membership.Membership;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+import seedu.address.model.util.IdSequence;
 
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * A person's memberships are the only part that changes. As an {@link Observable}, a person is invalidated
+ * whenever a membership is added, removed or refreshed, so a list can watch its persons without creating
+ * the observable list that {@link #getMemberships()} returns.
  */
-public class Person implements Searchable {
+public class Person implements Searchable, Observable {
 
-    // The extractor for the memberships list within this Person
-    private static final Callback<Membership, Observable[]> MEMBERSHIP_EXTRACTOR = membership -> new Observable[] {
-            membership.statusProperty(),
-            membership.expiryDateProperty()
-    };
+    // Stable id that survives edits and saves, given by the person list that first holds the person
+    private long id = IdSequence.UNASSIGNED_ID;
 
     // Identity fields
     private final Name name;
@@ -40,11 +46,18 @@ public class Person implements Searchable {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
-    private final ObservableList<Membership> memberships = FXCollections.observableArrayList(MEMBERSHIP_EXTRACTOR);
+    private final TagSet tags;
+    private final SearchProjection searchProjection;
+    private int hash; // cached, as every field that hashCode uses is immutable
+    // Memberships report their own changes through refreshMembership, so no extractor is needed
+    private final List<Membership> memberships = new ArrayList<>();
+    // Created on the first call to getMemberships; once it exists, every change goes through it
+    private ObservableList<Membership> observableMemberships;
+    private List<InvalidationListener> listeners; // created when the first listener is added
+    private int membershipsVersion; // bumped on every change to memberships, including refreshes
 
     /**
-     * Constructs a {@code Person}.
+     * Constructs a {@code Person} without an id. It is given one when it is first added to a person list.
      *
      * @param name    The person's name (required).
      * @param phone   The person's phone number (optional; may be empty).
@@ -70,7 +83,38 @@ public class Person implements Searchable {
         assert tags.size() <= 10;
         assert tags.stream().allMatch(tag -> tag.tagName.length() <= 20);
 
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
+        this.searchProjection = new SearchProjection(name, this.phone, email, this.address);
+    }
+
+    /**
+     * Constructs a {@code Person} with a known {@code id}, such as one read from storage
+     * or carried over from the person being edited.
+     */
+    public Person(long id, Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
+        this(name, phone, email, address, tags);
+        checkArgument(IdSequence.isValidId(id), IdSequence.MESSAGE_CONSTRAINTS);
+        this.id = id;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Returns true if this person has an id, i.e. it was created with one or has been added to a person list.
+     */
+    public boolean hasId() {
+        return id != IdSequence.UNASSIGNED_ID;
+    }
+
+    /**
+     * Gives this person its id. Only the person list that first holds a person without an id does this.
+     */
+    void assignId(long id) {
+        assert !hasId();
+        checkArgument(IdSequence.isValidId(id), IdSequence.MESSAGE_CONSTRAINTS);
+        this.id = id;
     }
 
     public Name getName() {
@@ -97,12 +141,73 @@ public class Person implements Searchable {
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
-    public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+    public TagSet getTags() {
+        return tags;
+    }
+
+    /**
+     * Returns the normalized fields that searches match against.
+     */
+    public SearchProjection getSearchProjection() {
+        return searchProjection;
     }
 
+    /**
+     * Returns the memberships as an observable list, creating it on the first call.
+     * Changes made through the returned list are reported like those made through this person.
+     */
     public ObservableList<Membership> getMemberships() {
-        return this.memberships;
+        if (observableMemberships == null) {
+            observableMemberships = FXCollections.observableList(memberships);
+            observableMemberships.addListener((InvalidationListener) unused -> membershipsChanged());
+        }
+        return observableMemberships;
+    }
+
+    /**
+     * Returns the list to change the memberships through: the observable list if it has been created,
+     * so that its listeners hear of the change, or else the plain list, reporting the change here.
+     */
+    private List<Membership> membershipsToChange() {
+        if (observableMemberships != null) {
+            return observableMemberships;
+        }
+        membershipsChanged();
+        return memberships;
+    }
+
+    private void membershipsChanged() {
+        membershipsVersion++;
+        if (listeners != null) {
+            // Copied, as a listener may remove itself
+            for (InvalidationListener listener : List.copyOf(listeners)) {
+                listener.invalidated(this);
+            }
+        }
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        requireNonNull(listener);
+        if (listeners == null) {
+            listeners = new ArrayList<>(1);
+        }
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        if (listeners != null) {
+            listeners.remove(listener);
+        }
+    }
+
+    /**
+     * Returns a number that changes whenever a membership is added, removed or refreshed, so that
+     * anything derived from the memberships can tell whether it is still up to date.
+     */
+    public int getMembershipsVersion() {
+        return membershipsVersion;
     }
 
     public boolean hasValidTagList() {
@@ -116,7 +221,7 @@ public class Person implements Searchable {
         for (Membership m : memberships) {
             m.getClub().removeMember(this);
         }
-        memberships.clear();
+        membershipsToChange().clear();
     }
 
     /**
@@ -132,7 +237,7 @@ public class Person implements Searchable {
             return false;
         }
 
-        return this.email.value.equalsIgnoreCase(otherPerson.email.value);
+        return email.isSameEmail(otherPerson.email);
     }
 
     /**
@@ -160,7 +265,10 @@ public class Person implements Searchable {
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, phone, email, address, tags);
+        if (hash == 0) {
+            hash = Objects.hash(name, phone, email, address, tags);
+        }
+        return hash;
     }
 
     @Override
@@ -175,11 +283,24 @@ public class Person implements Searchable {
     }
 
     public void addMembership(Membership membership) {
-        this.memberships.add(membership);
+        membershipsToChange().add(membership);
     }
 
     public void removeMembership(Membership membership) {
-        this.memberships.remove(membership);
+        membershipsToChange().remove(membership);
+    }
+
+    /**
+     * Notifies listeners of this person and of {@link #getMemberships()} that {@code membership} has changed,
+     * by replacing it with itself. Does nothing if {@code membership} is not one of this person's memberships.
+     */
+    public void refreshMembership(Membership membership) {
+        for (int i = 0; i < memberships.size(); i++) {
+            if (memberships.get(i) == membership) {
+                membershipsToChange().set(i, membership);
+                return;
+            }
+        }
     }
 
     /**
@@ -191,7 +312,7 @@ public class Person implements Searchable {
                 .filter(m -> m.getClub().equals(club))
                 .findFirst()
                 .ifPresent(membershipToRemove -> {
-                    memberships.remove(membershipToRemove);
+                    membershipsToChange().remove(membershipToRemove);
                 });
         // Also remember to delete membership from ModelManager
     }
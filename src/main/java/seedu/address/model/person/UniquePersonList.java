@@ -3,20 +3,27 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.Set;
 
 import javafx.beans.Observable;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.util.Callback;
 import seedu.address.model.field.Email;
-import seedu.address.model.membership.Membership;
+import seedu.address.model.field.SearchField;
+import seedu.address.model.field.SubstringIndex;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.TagIndex;
+import seedu.address.model.util.IdSequence;
+import seedu.address.model.util.UpdateBatchingList;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -28,46 +35,43 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are additionally indexed by their case-insensitive email, so identity checks
+ * and email lookups do not need to scan the list, and by their tags and the trigrams of their name, address
+ * and email, so tag and substring searches need not either.
+ *
+ * A person added without an id is given the next unused id of this list; ids that persons already have,
+ * e.g. when loaded from a file, are reserved so that they are never handed out again.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final Callback<Person, Observable[]> extractor = person -> {
-        // Create a stream of all the status properties from all memberships
-        Observable[] membershipStatuses = person.getMemberships().stream()
-                .map(Membership::statusProperty)
-                .toArray(Observable[]::new);
-
-        Observable[] membershipExpiryDates = person.getMemberships().stream()
-                .map(Membership::expiryDateProperty)
-                .toArray(Observable[]::new);
-
-        // Create a final observable array that contains:
-        // 1. The membership set itself (for additions/removals)
-        // 2. All the individual status properties (for status changes)
-        // 3. All the individual expiry date properties (for expiry date changes)
-        Stream<Observable> membershipsStream = Stream.of(person.getMemberships());
-        Stream<Observable> membershipStatusStream = Stream.of(membershipStatuses);
-        Stream<Observable> membershipExpiryDateStream = Stream.of(membershipExpiryDates);
-
-        return (Observable[]) Stream.of(membershipsStream, membershipStatusStream, membershipExpiryDateStream)
-                .flatMap(s -> s)
-                .toArray(Observable[]::new);
-    };
-
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList(extractor);
+    // A person reports changes to its memberships, including their status or expiry date,
+    // see Person#refreshMembership, so it is the only thing to observe
+    private final Callback<Person, Observable[]> extractor = person -> new Observable[] {person};
+
+    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    // Updates from the extractor are held back until flushUpdates, so a command that changes many
+    // memberships costs observers one change
+    private final UpdateBatchingList<Person> batchingList = new UpdateBatchingList<>(internalList, extractor);
     private final ObservableList<Person> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+            FXCollections.unmodifiableObservableList(batchingList);
+
+    // Email key -> person, kept in sync with internalList
+    private final Map<String, Person> emailIndex = new HashMap<>();
+    private final TagIndex tagIndex = new TagIndex();
+    private final SubstringIndex substringIndex = new SubstringIndex();
+    private final IdSequence ids = new IdSequence();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        // Identity check should be email-only (case-insensitive) via isSamePerson
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        // Identity check is email-only (case-insensitive), consistent with isSamePerson
+        return emailIndex.containsKey(toCheck.getEmail().getKey());
     }
 
     /**
@@ -79,7 +83,9 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        assignId(toAdd);
         internalList.add(toAdd);
+        index(toAdd);
     }
 
     /**
@@ -99,7 +105,13 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        if (!editedPerson.hasId()) {
+            // The edited person stands for the same person as the target
+            editedPerson.assignId(internalList.get(index).getId());
+        }
+        Person storedTarget = internalList.set(index, editedPerson);
+        unindex(storedTarget);
+        index(editedPerson);
     }
 
     /**
@@ -108,27 +120,81 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
+        Person storedPerson = emailIndex.get(toRemove.getEmail().getKey());
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        unindex(storedPerson);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        ids.reserveAll(replacement.ids);
+        internalList.setAll(replacement.internalList);
+        emailIndex.clear();
+        emailIndex.putAll(replacement.emailIndex);
+        tagIndex.setAll(replacement.tagIndex);
+        substringIndex.setAll(replacement.substringIndex);
+    }
+
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}, which is left empty.
+     * Unlike {@link #setPersons(UniquePersonList)}, the indexes of {@code replacement} are taken over rather than
+     * copied, which suits a list that was only built to be loaded into this one.
+     */
+    public void takePersons(UniquePersonList replacement) {
+        requireNonNull(replacement);
+        ids.reserveAll(replacement.ids);
         internalList.setAll(replacement.internalList);
+        replacement.internalList.clear();
+        emailIndex.clear();
+        emailIndex.putAll(replacement.emailIndex);
+        replacement.emailIndex.clear();
+        tagIndex.takeFrom(replacement.tagIndex);
+        substringIndex.takeFrom(replacement.substringIndex);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * Uniqueness is checked in a single pass, and the list is left unchanged if any duplicates are found.
+     *
+     * @throws DuplicatePersonException listing every person that has the same identity as an earlier one.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Map<String, Person> newEmailIndex = new HashMap<>();
+        List<Person> duplicates = new ArrayList<>();
+        for (Person person : persons) {
+            if (newEmailIndex.putIfAbsent(person.getEmail().getKey(), person) != null) {
+                duplicates.add(person);
+            }
+        }
+        if (!duplicates.isEmpty()) {
+            throw new DuplicatePersonException(duplicates);
         }
 
+        assignIds(persons);
         internalList.setAll(persons);
+        emailIndex.clear();
+        emailIndex.putAll(newEmailIndex);
+        tagIndex.clear();
+        substringIndex.clear();
+        persons.forEach(person -> {
+            tagIndex.add(person.getId(), person.getTags());
+            substringIndex.add(person.getId(), person);
+        });
+    }
+
+    /**
+     * Reports the persons whose memberships changed since the last call to observers of
+     * {@link #asUnmodifiableObservableList()}, as a single change.
+     */
+    public void flushUpdates() {
+        batchingList.flushUpdates();
     }
 
     /**
@@ -143,10 +209,6 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.iterator();
     }
 
-    public void sort(Comparator<Person> personComparator) {
-        internalList.sort(personComparator);
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -173,24 +235,61 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the person whose email matches {@code email}, ignoring case.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
+    public Optional<Person> getPersonByEmail(Email email) {
+        requireNonNull(email);
+        return Optional.ofNullable(emailIndex.get(email.getKey()));
+    }
+
+    /**
+     * Returns the ids of the persons carrying a tag with any of the keys numbered in {@code tagKeyIds}.
+     *
+     * @see seedu.address.model.tag.TagRegistry
+     */
+    public Set<Long> getIdsTagged(BitSet tagKeyIds) {
+        return tagIndex.getIds(tagKeyIds);
+    }
+
+    /**
+     * Returns the ids of the persons whose {@code field} may contain {@code keyword}, ignoring case,
+     * or an empty {@code Optional} if the keyword is too short to be looked up.
+     *
+     * @see SubstringIndex#getCandidateIds(SearchField, String)
+     */
+    public Optional<Set<Long>> getIdsContaining(SearchField field, String keyword) {
+        return substringIndex.getCandidateIds(field, keyword);
+    }
+
+    /**
+     * Gives {@code person} the next id of this list if it has none, or reserves the id it has.
+     */
+    private void assignId(Person person) {
+        if (person.hasId()) {
+            ids.reserve(person.getId());
+        } else {
+            person.assignId(ids.next());
         }
-        return true;
     }
 
-    public Optional<Person> getPersonByEmail(Email email) {
-        return internalList.stream()
-                .filter(person ->
-                        person.getEmail().equals(email)
-                )
-                .findFirst();
+    /**
+     * Gives every person in {@code persons} without an id the next id of this list, after reserving the ids of all the
+     * others, so that no new id can clash with one that comes later in {@code persons}.
+     */
+    private void assignIds(List<Person> persons) {
+        persons.stream().filter(Person::hasId).forEach(this::assignId);
+        persons.stream().filter(person -> !person.hasId()).forEach(this::assignId);
+    }
+
+    private void index(Person person) {
+        emailIndex.put(person.getEmail().getKey(), person);
+        tagIndex.add(person.getId(), person.getTags());
+        substringIndex.add(person.getId(), person);
+    }
+
+    private void unindex(Person person) {
+        emailIndex.remove(person.getEmail().getKey());
+        tagIndex.remove(person.getId(), person.getTags());
+        substringIndex.remove(person.getId(), person);
     }
 }
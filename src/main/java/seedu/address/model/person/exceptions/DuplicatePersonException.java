@@ -1,11 +1,33 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.List;
+
+import seedu.address.model.person.Person;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+    private final List<Person> duplicates;
+
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        duplicates = List.of();
+    }
+
+    /**
+     * Constructs an exception reporting every {@code Person} in {@code duplicates} that clashes with an earlier one.
+     */
+    public DuplicatePersonException(List<Person> duplicates) {
+        super("Operation would result in duplicate persons: " + duplicates);
+        this.duplicates = List.copyOf(duplicates);
+    }
+
+    /**
+     * Returns the duplicates that caused this exception, or an empty list if they were not recorded.
+     */
+    public List<Person> getDuplicates() {
+        return duplicates;
     }
 }
@@ -14,6 +14,10 @@ public class Tag {
 
     public final String tagName;
 
+    // Derived once, as tags are matched and validated far more often than they are created
+    private final String key;
+    private final boolean isWithinLength;
+
     /**
      * Constructs a {@code Tag}.
      *
@@ -23,6 +27,8 @@ public class Tag {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         this.tagName = tagName;
+        this.key = tagName.toLowerCase();
+        this.isWithinLength = tagName.length() <= 20;
     }
 
     /**
@@ -32,8 +38,19 @@ public class Tag {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns true if this tag is short enough to be stored.
+     * The tag name itself was already validated on construction.
+     */
     public boolean isValid() {
-        return isValidTagName(tagName) && tagName.length() <= 20;
+        return isWithinLength;
+    }
+
+    /**
+     * Returns the lower-cased tag name, for case-insensitive matching.
+     */
+    public String getKey() {
+        return key;
     }
 
     @Override
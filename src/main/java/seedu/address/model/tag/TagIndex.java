@@ -0,0 +1,76 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from case-insensitive tag keys to the ids of the entities carrying them,
+ * so that tag searches can find their candidates without testing every entity.
+ * Keys are the numbers handed out by {@link TagRegistry}.
+ */
+public class TagIndex {
+
+    private Map<Integer, Set<Long>> idsByKeyId = new HashMap<>();
+
+    /**
+     * Records that the entity with {@code id} carries {@code tags}.
+     */
+    public void add(long id, TagSet tags) {
+        requireNonNull(tags);
+        tags.forEachKeyId(keyId -> idsByKeyId.computeIfAbsent(keyId, unused -> new HashSet<>()).add(id));
+    }
+
+    /**
+     * Forgets that the entity with {@code id} carries {@code tags}.
+     */
+    public void remove(long id, TagSet tags) {
+        requireNonNull(tags);
+        tags.forEachKeyId(keyId -> {
+            Set<Long> ids = idsByKeyId.get(keyId);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                idsByKeyId.remove(keyId);
+            }
+        });
+    }
+
+    /**
+     * Replaces the contents of this index with a copy of {@code replacement}.
+     */
+    public void setAll(TagIndex replacement) {
+        requireNonNull(replacement);
+        idsByKeyId.clear();
+        replacement.idsByKeyId.forEach((keyId, ids) -> idsByKeyId.put(keyId, new HashSet<>(ids)));
+    }
+
+    /**
+     * Replaces the contents of this index with those of {@code replacement}, which is left empty.
+     * Unlike {@link #setAll(TagIndex)}, nothing is copied.
+     */
+    public void takeFrom(TagIndex replacement) {
+        requireNonNull(replacement);
+        idsByKeyId = replacement.idsByKeyId;
+        replacement.idsByKeyId = new HashMap<>();
+    }
+
+    /**
+     * Removes every entry from this index.
+     */
+    public void clear() {
+        idsByKeyId.clear();
+    }
+
+    /**
+     * Returns the ids of the entities carrying a tag with any of the keys numbered in {@code keyIds}.
+     */
+    public Set<Long> getIds(BitSet keyIds) {
+        requireNonNull(keyIds);
+        Set<Long> ids = new HashSet<>();
+        keyIds.stream().forEach(keyId -> ids.addAll(idsByKeyId.getOrDefault(keyId, Set.of())));
+        return ids;
+    }
+}
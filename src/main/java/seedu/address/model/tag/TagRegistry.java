@@ -0,0 +1,96 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Interns every distinct {@code Tag} in the application and numbers it with a small integer, so that
+ * sets of tags can be stored as bitsets (see {@link TagSet}) and compared with bitwise operations.
+ * Each tag also gets the number of its case-insensitive key, as tag searches ignore case.
+ * Numbers are never reused, which keeps existing {@code TagSet}s valid as the registry grows.
+ */
+public final class TagRegistry {
+
+    private static final List<Tag> tags = new ArrayList<>();
+    private static final List<Integer> keyIds = new ArrayList<>();
+    private static final List<String> keys = new ArrayList<>();
+    private static final Map<String, Integer> idsByName = new HashMap<>();
+    private static final Map<String, Integer> idsByKey = new HashMap<>();
+
+    private TagRegistry() {
+    }
+
+    /**
+     * Returns the number of {@code tag}, registering it if it has not been seen before.
+     */
+    public static synchronized int intern(Tag tag) {
+        requireNonNull(tag);
+        Integer id = idsByName.get(tag.tagName);
+        if (id != null) {
+            return id;
+        }
+
+        Integer keyId = idsByKey.get(tag.getKey());
+        if (keyId == null) {
+            keyId = keys.size();
+            keys.add(tag.getKey());
+            idsByKey.put(tag.getKey(), keyId);
+        }
+
+        id = tags.size();
+        tags.add(tag);
+        keyIds.add(keyId);
+        idsByName.put(tag.tagName, id);
+        return id;
+    }
+
+    /**
+     * Returns the number of {@code tag}, or -1 if it has never been registered.
+     */
+    public static synchronized int find(Tag tag) {
+        requireNonNull(tag);
+        return idsByName.getOrDefault(tag.tagName, -1);
+    }
+
+    /**
+     * Returns the shared instance of the tag numbered {@code id}.
+     */
+    public static synchronized Tag get(int id) {
+        return tags.get(id);
+    }
+
+    /**
+     * Returns the number of the case-insensitive key of the tag numbered {@code id}.
+     */
+    public static synchronized int keyIdOf(int id) {
+        return keyIds.get(id);
+    }
+
+    /**
+     * Returns the number of distinct case-insensitive keys registered so far.
+     */
+    public static synchronized int keyCount() {
+        return keys.size();
+    }
+
+    /**
+     * Sets, in {@code keyIds}, the numbers of the keys from {@code from} onwards that satisfy {@code predicate}.
+     * Returns the number of keys registered, from which the next call can carry on.
+     */
+    public static synchronized int collectKeys(int from, Predicate<String> predicate, BitSet keyIds) {
+        requireNonNull(predicate);
+        requireNonNull(keyIds);
+        for (int keyId = from; keyId < keys.size(); keyId++) {
+            if (predicate.test(keys.get(keyId))) {
+                keyIds.set(keyId);
+            }
+        }
+        return keys.size();
+    }
+}
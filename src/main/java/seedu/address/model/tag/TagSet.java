@@ -0,0 +1,176 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of tags, stored as bitsets over the numbers handed out by {@link TagRegistry}.
+ * Tags are shared across every set that holds them, and a set costs a word or so per
+ * 64 distinct tags in the application rather than a hash table per record.
+ * Mutators throw {@code UnsupportedOperationException}.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    public static final TagSet EMPTY = new TagSet(new BitSet(), new BitSet());
+
+    private final BitSet ids;
+    private final BitSet keyIds;
+    private final int size;
+
+    private TagSet(BitSet ids, BitSet keyIds) {
+        this.ids = ids;
+        this.keyIds = keyIds;
+        this.size = ids.cardinality();
+    }
+
+    /**
+     * Returns a {@code TagSet} holding the given {@code tags}.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+
+        BitSet ids = new BitSet();
+        BitSet keyIds = new BitSet();
+        for (Tag tag : tags) {
+            int id = TagRegistry.intern(tag);
+            ids.set(id);
+            keyIds.set(TagRegistry.keyIdOf(id));
+        }
+        return new TagSet(ids, keyIds);
+    }
+
+    /**
+     * Returns true if any tag in this set has one of the case-insensitive keys numbered in {@code keyIds}.
+     */
+    public boolean intersectsKeys(BitSet keyIds) {
+        requireNonNull(keyIds);
+        return this.keyIds.intersects(keyIds);
+    }
+
+    /**
+     * Passes the number of each distinct case-insensitive key in this set to {@code action}.
+     */
+    public void forEachKeyId(IntConsumer action) {
+        requireNonNull(action);
+        keyIds.stream().forEach(action);
+    }
+
+    /**
+     * Returns true if this set holds every tag in {@code other}.
+     */
+    public boolean containsAll(TagSet other) {
+        requireNonNull(other);
+        BitSet missing = (BitSet) other.ids.clone();
+        missing.andNot(ids);
+        return missing.isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Tag)) {
+            return false;
+        }
+        int id = TagRegistry.find((Tag) o);
+        return id >= 0 && ids.get(id);
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        if (c instanceof TagSet) {
+            return containsAll((TagSet) c);
+        }
+        return super.containsAll(c);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int next = ids.nextSetBit(0);
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public Tag next() {
+                if (next < 0) {
+                    throw new NoSuchElementException();
+                }
+                Tag tag = TagRegistry.get(next);
+                next = ids.nextSetBit(next + 1);
+                return tag;
+            }
+        };
+    }
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (other instanceof TagSet) {
+            return ids.equals(((TagSet) other).ids);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.model.util;
+
+/**
+ * Hands out the numeric ids that identify the persons or the clubs of one list across edits and saves.
+ * Ids already in use are reserved, so that entities added later never reuse them.
+ */
+public final class IdSequence {
+
+    public static final String MESSAGE_CONSTRAINTS = "Ids should be positive whole numbers.";
+
+    /** The id of an entity that has not been added to a list yet. */
+    public static final long UNASSIGNED_ID = 0;
+
+    private long lastId;
+
+    /**
+     * Returns an id that has not been handed out or reserved before.
+     */
+    public long next() {
+        return ++lastId;
+    }
+
+    /**
+     * Marks {@code id} as taken, so that {@link #next()} never returns it.
+     */
+    public void reserve(long id) {
+        lastId = Math.max(lastId, id);
+    }
+
+    /**
+     * Marks every id that {@code other} has handed out or reserved as taken.
+     */
+    public void reserveAll(IdSequence other) {
+        reserve(other.lastId);
+    }
+
+    /**
+     * Returns true if {@code id} can identify an entity.
+     */
+    public static boolean isValidId(long id) {
+        return id > 0;
+    }
+}
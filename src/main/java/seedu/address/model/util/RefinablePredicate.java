@@ -0,0 +1,17 @@
+package seedu.address.model.util;
+
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate} that can tell when it is a refinement of another predicate, that is, when it accepts
+ * no object the other predicate rejects. A filtered list showing what the other predicate accepts can then
+ * switch to this predicate by running it only on the objects it shows.
+ */
+public interface RefinablePredicate<T> extends Predicate<T> {
+
+    /**
+     * Returns true if every object this predicate accepts is known to be accepted by {@code other} too.
+     * Returns false if that is not known, which is always safe.
+     */
+    boolean refines(Predicate<?> other);
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.util;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -52,7 +53,7 @@ public class SampleDataUtil {
         };
     }
 
-    public static ReadOnlyAddressBook getSampleAddressBook() {
+    public static ReadOnlyAddressBook getSampleAddressBook(LocalDate today) {
         AddressBook sampleAb = new AddressBook();
         for (Person samplePerson : getSamplePersons()) {
             sampleAb.addPerson(samplePerson);
@@ -66,7 +67,7 @@ public class SampleDataUtil {
         for (int[] pair : personClubPairs) {
             Person person = sampleAb.getPersonList().get(pair[0]);
             Club club = sampleAb.getClubList().get(pair[1]);
-            Membership m = new Membership(person, club);
+            Membership m = new Membership(person, club, today);
             sampleAb.addMembership(m);
             person.addMembership(m);
             club.addMembership(m);
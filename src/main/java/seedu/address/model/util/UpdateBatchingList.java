@@ -0,0 +1,140 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import javafx.util.Callback;
+
+/**
+ * A view of an {@code ObservableList} that passes additions, removals and permutations on as they happen,
+ * but holds back updates to elements. Like the extractor of {@code FXCollections.observableArrayList},
+ * an extractor names the observables of each element, but their invalidation only marks the element as
+ * updated. {@link #flushUpdates()} then reports every marked element that is still in the list in one change.
+ * However often the elements change in between, observers such as a {@code FilteredList} or a
+ * {@code ListView} re-examine each of them once.
+ */
+public class UpdateBatchingList<E> extends TransformationList<E, E> {
+
+    private final Callback<E, Observable[]> extractor;
+    private final Set<E> pendingUpdates = Collections.newSetFromMap(new IdentityHashMap<>());
+    // Element -> the listener marking it as updated, registered on each of its observables
+    private final Map<E, InvalidationListener> watchers = new IdentityHashMap<>();
+
+    /**
+     * Creates a view of {@code source} that watches the observables {@code extractor} returns for each element.
+     */
+    public UpdateBatchingList(ObservableList<E> source, Callback<E, Observable[]> extractor) {
+        super(requireNonNull(source));
+        requireNonNull(extractor);
+        this.extractor = extractor;
+        source.forEach(this::watch);
+    }
+
+    /**
+     * Marks {@code element} as updated, to be reported by the next {@link #flushUpdates()}.
+     */
+    public void markUpdated(E element) {
+        requireNonNull(element);
+        pendingUpdates.add(element);
+    }
+
+    /**
+     * Returns true if some element has been marked as updated since the last {@link #flushUpdates()}.
+     */
+    public boolean hasPendingUpdates() {
+        return !pendingUpdates.isEmpty();
+    }
+
+    /**
+     * Reports every element marked as updated that is still in the list, as a single change.
+     * Does nothing if no element has been marked.
+     */
+    public void flushUpdates() {
+        if (pendingUpdates.isEmpty()) {
+            return;
+        }
+        beginChange();
+        for (int i = 0; i < size(); i++) {
+            if (pendingUpdates.contains(get(i))) {
+                nextUpdate(i);
+            }
+        }
+        pendingUpdates.clear();
+        endChange();
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    change.getRemoved().forEach(this::unwatch);
+                    nextRemove(change.getFrom(), change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    change.getAddedSubList().forEach(this::watch);
+                    nextAdd(change.getFrom(), change.getTo());
+                }
+            }
+        }
+        endChange();
+    }
+
+    private void watch(E element) {
+        InvalidationListener watcher = observable -> markUpdated(element);
+        for (Observable observable : extractor.call(element)) {
+            observable.addListener(watcher);
+        }
+        watchers.put(element, watcher);
+    }
+
+    private void unwatch(E element) {
+        InvalidationListener watcher = watchers.remove(element);
+        if (watcher == null) {
+            return;
+        }
+        for (Observable observable : extractor.call(element)) {
+            observable.removeListener(watcher);
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return getSource().get(index);
+    }
+
+    @Override
+    public int size() {
+        return getSource().size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        return index;
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return index;
+    }
+}
@@ -42,4 +42,23 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Captures the given {@link ReadOnlyAddressBook} as it is now, and returns a task that saves the captured
+     * data to the storage. The capture must be taken on the thread that changes the address book, but the task
+     * can be run on any thread, as later changes to the address book do not affect it.
+     * @param addressBook cannot be null.
+     */
+    SaveTask snapshotAddressBook(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Saves an address book captured by {@link #snapshotAddressBook(ReadOnlyAddressBook)}.
+     */
+    @FunctionalInterface
+    interface SaveTask {
+        /**
+         * @throws IOException if there was any problem writing to the file.
+         */
+        void save() throws IOException;
+    }
+
 }
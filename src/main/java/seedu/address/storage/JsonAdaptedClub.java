@@ -17,6 +17,7 @@ import seedu.address.model.field.Name;
 import seedu.address.model.field.Phone;
 import seedu.address.model.field.validator.PhoneValidator;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.IdSequence;
 
 /**
  * Jackson-friendly version of {@link Club}.
@@ -25,6 +26,7 @@ class JsonAdaptedClub {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Club's %s field is missing!";
 
+    private final Long id;
     private final String name;
     private final String phone;
     private final String email;
@@ -35,9 +37,11 @@ class JsonAdaptedClub {
      * Constructs a {@code JsonAdaptedClub} with the given club details.
      */
     @JsonCreator
-    public JsonAdaptedClub(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
-                             @JsonProperty("email") String email, @JsonProperty("address") String address,
+    public JsonAdaptedClub(@JsonProperty("id") Long id, @JsonProperty("name") String name,
+                             @JsonProperty("phone") String phone, @JsonProperty("email") String email,
+                             @JsonProperty("address") String address,
                              @JsonProperty("tags") List<JsonAdaptedTag> tags) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -47,10 +51,18 @@ class JsonAdaptedClub {
         }
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedClub} without a stored id, as found in data files saved before ids were kept.
+     */
+    public JsonAdaptedClub(String name, String phone, String email, String address, List<JsonAdaptedTag> tags) {
+        this(null, name, phone, email, address, tags);
+    }
+
     /**
      * Converts a given {@code Club} into this class for Jackson use.
      */
     public JsonAdaptedClub(Club source) {
+        id = source.getId();
         name = source.getName().fullName;
         phone = source.getPhone() == null ? "" : source.getPhone().value;
         email = source.getEmail().value;
@@ -113,7 +125,13 @@ class JsonAdaptedClub {
         }
 
         final Set<Tag> modelTags = new HashSet<>(clubTags);
-        return new Club(modelName, modelPhone, modelEmail, modelAddress, modelTags);
+        if (id == null) {
+            return new Club(modelName, modelPhone, modelEmail, modelAddress, modelTags);
+        }
+        if (!IdSequence.isValidId(id)) {
+            throw new IllegalValueException(IdSequence.MESSAGE_CONSTRAINTS);
+        }
+        return new Club(id, modelName, modelPhone, modelEmail, modelAddress, modelTags);
     }
 
 }
@@ -9,6 +9,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.membership.EventType;
 import seedu.address.model.membership.Membership;
 import seedu.address.model.membership.MembershipEvent;
 import seedu.address.model.membership.MembershipStatus;
@@ -19,7 +20,11 @@ import seedu.address.model.membership.MembershipStatus;
  */
 class JsonAdaptedMembership {
 
-    // Assuming a Person is uniquely identified by their Email, and a Club by its Name.
+    public static final String MESSAGE_MULTIPLE_SUMMARIES = "Membership history has more than one summary event.";
+
+    // Ids link to the stored person and club. Older files only have the email and club name.
+    private final Long personId;
+    private final Long clubId;
     private final String personEmail;
     private final String clubName;
     private final String joinDate;
@@ -27,14 +32,21 @@ class JsonAdaptedMembership {
     private final List<JsonAdaptedMembershipEvent> membershipEventHistory = new ArrayList<>();
     private final String status;
 
+    /**
+     * Constructs a {@code JsonAdaptedMembership} with the given membership details.
+     */
     @JsonCreator
-    public JsonAdaptedMembership(@JsonProperty("personEmail") String personEmail,
+    public JsonAdaptedMembership(@JsonProperty("personId") Long personId,
+                                 @JsonProperty("clubId") Long clubId,
+                                 @JsonProperty("personEmail") String personEmail,
                                  @JsonProperty("clubName") String clubName,
                                  @JsonProperty("joinDate") String joinDate,
                                  @JsonProperty("expiryDate") String expiryDate,
                                  @JsonProperty("membershipEventHistory")
                                      List<JsonAdaptedMembershipEvent> membershipEventHistory,
                                  @JsonProperty("status") String status) {
+        this.personId = personId;
+        this.clubId = clubId;
         this.personEmail = personEmail;
         this.clubName = clubName;
         this.joinDate = joinDate;
@@ -49,8 +61,9 @@ class JsonAdaptedMembership {
      * Converts a given {@code Membership} into this class for Jackson use.
      */
     public JsonAdaptedMembership(Membership source) {
-        // Adapt the model objects to their simple string IDs.
-        personEmail = source.getPerson().getEmail().value; // Or another unique identifier
+        personId = source.getPerson().getId();
+        clubId = source.getClub().getId();
+        personEmail = source.getPerson().getEmail().value;
         clubName = source.getClub().getName().fullName;
         joinDate = source.getJoinDate().toString();
         expiryDate = source.getExpiryDate().toString();
@@ -61,6 +74,14 @@ class JsonAdaptedMembership {
         status = source.getStatus().toString();
     }
 
+    public Long getPersonId() {
+        return personId;
+    }
+
+    public Long getClubId() {
+        return clubId;
+    }
+
     public String getPersonEmail() {
         return personEmail;
     }
@@ -81,9 +102,18 @@ class JsonAdaptedMembership {
         return MembershipStatus.valueOf(status);
     }
 
+    /**
+     * Returns the membership events, oldest first.
+     *
+     * @throws IllegalValueException if the history holds more than one summary event.
+     */
     public List<MembershipEvent> getMembershipEventHistory() throws IllegalValueException {
-        return membershipEventHistory.stream()
+        List<MembershipEvent> history = membershipEventHistory.stream()
                 .map(JsonAdaptedMembershipEvent::toModelType)
                 .collect(Collectors.toList());
+        if (history.stream().filter(event -> event.getEventType() == EventType.SUMMARY).count() > 1) {
+            throw new IllegalValueException(MESSAGE_MULTIPLE_SUMMARIES);
+        }
+        return history;
     }
 }
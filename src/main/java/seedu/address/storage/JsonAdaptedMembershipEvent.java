@@ -3,8 +3,8 @@ package seedu.address.storage;
 import java.time.LocalDate;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.annotation.JsonValue;
 
 import seedu.address.model.membership.EventType;
 import seedu.address.model.membership.MembershipEvent;
@@ -15,16 +15,32 @@ class JsonAdaptedMembershipEvent {
     private final String eventDate;
     private final String monthsAdded; // Duration added
     private final String newExpiryDate; // The resulting expiry date after this event
+    // Only written for summary events
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String eventCount;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String firstEventDate;
 
     @JsonCreator
     public JsonAdaptedMembershipEvent(@JsonProperty("eventType") String eventType,
                                       @JsonProperty("eventDate") String eventDate,
                                       @JsonProperty("monthsAdded") String monthsAdded,
-                                      @JsonProperty("newExpiryDate") String newExpiryDate) {
+                                      @JsonProperty("newExpiryDate") String newExpiryDate,
+                                      @JsonProperty("eventCount") String eventCount,
+                                      @JsonProperty("firstEventDate") String firstEventDate) {
         this.eventType = eventType;
         this.eventDate = eventDate;
         this.monthsAdded = monthsAdded;
         this.newExpiryDate = newExpiryDate;
+        this.eventCount = eventCount;
+        this.firstEventDate = firstEventDate;
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedMembershipEvent} for an event that is not a summary.
+     */
+    public JsonAdaptedMembershipEvent(String eventType, String eventDate, String monthsAdded, String newExpiryDate) {
+        this(eventType, eventDate, monthsAdded, newExpiryDate, null, null);
     }
 
     public JsonAdaptedMembershipEvent(MembershipEvent source) {
@@ -32,14 +48,25 @@ class JsonAdaptedMembershipEvent {
         this.eventDate = source.getEventDate().toString();
         this.monthsAdded = Integer.toString(source.getMonthsAdded());
         this.newExpiryDate = source.getNewExpiryDate().toString();
+        boolean isSummary = source.getEventType() == EventType.SUMMARY;
+        this.eventCount = isSummary ? Integer.toString(source.getEventCount()) : null;
+        this.firstEventDate = isSummary ? source.getFirstEventDate().toString() : null;
     }
 
-    @JsonValue
+    /**
+     * Converts this Jackson-friendly adapted event object into the model's {@code MembershipEvent} object.
+     */
     public MembershipEvent toModelType() {
         EventType modelEventType = EventType.valueOf(eventType);
         LocalDate modelEventDate = LocalDate.parse(eventDate);
         int modelMonthsAdded = Integer.parseInt(monthsAdded);
         LocalDate modelNewExpiryDate = LocalDate.parse(newExpiryDate);
+        if (modelEventType == EventType.SUMMARY) {
+            int modelEventCount = eventCount == null ? 1 : Integer.parseInt(eventCount);
+            LocalDate modelFirstEventDate = firstEventDate == null ? modelEventDate : LocalDate.parse(firstEventDate);
+            return MembershipEvent.summary(modelFirstEventDate, modelEventDate, modelEventCount, modelMonthsAdded,
+                    modelNewExpiryDate);
+        }
         return new MembershipEvent(modelEventType, modelEventDate, modelMonthsAdded, modelNewExpiryDate);
     }
 }
@@ -17,6 +17,7 @@ import seedu.address.model.field.Phone;
 import seedu.address.model.field.validator.PhoneValidator;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.IdSequence;
 
 /**
  * Jackson-friendly version of {@link Person}.
@@ -25,6 +26,7 @@ class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
+    private final Long id;
     private final String name;
     private final String phone;
     private final String email;
@@ -35,9 +37,10 @@ class JsonAdaptedPerson {
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
-            @JsonProperty("email") String email, @JsonProperty("address") String address,
-            @JsonProperty("tags") List<JsonAdaptedTag> tags) {
+    public JsonAdaptedPerson(@JsonProperty("id") Long id, @JsonProperty("name") String name,
+            @JsonProperty("phone") String phone, @JsonProperty("email") String email,
+            @JsonProperty("address") String address, @JsonProperty("tags") List<JsonAdaptedTag> tags) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -47,10 +50,18 @@ class JsonAdaptedPerson {
         }
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedPerson} without a stored id, as found in data files saved before ids were kept.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, String address, List<JsonAdaptedTag> tags) {
+        this(null, name, phone, email, address, tags);
+    }
+
     /**
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        id = source.getId();
         name = source.getName().fullName;
         this.phone = source.getPhone() == null ? "" : source.getPhone().value;
         email = source.getEmail().value;
@@ -106,7 +117,13 @@ class JsonAdaptedPerson {
         }
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
-        return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags);
+        if (id == null) {
+            return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags);
+        }
+        if (!IdSequence.isValidId(id)) {
+            throw new IllegalValueException(IdSequence.MESSAGE_CONSTRAINTS);
+        }
+        return new Person(id, modelName, modelPhone, modelEmail, modelAddress, modelTags);
     }
 
 }
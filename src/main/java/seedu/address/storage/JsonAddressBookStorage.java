@@ -77,4 +77,17 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
     }
 
+    @Override
+    public SaveTask snapshotAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+
+        // The adapted form holds only strings, so it does not change with the address book
+        JsonSerializableAddressBook snapshot = new JsonSerializableAddressBook(addressBook);
+        Path snapshotFilePath = filePath;
+        return () -> {
+            FileUtil.createIfMissing(snapshotFilePath);
+            JsonUtil.saveJsonFile(snapshot, snapshotFilePath);
+        };
+    }
+
 }
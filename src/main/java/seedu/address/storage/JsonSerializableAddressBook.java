@@ -3,22 +3,27 @@ package seedu.address.storage;
 import static seedu.address.logic.commands.AddClubCommand.MESSAGE_DUPLICATE_CLUB;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.club.Club;
+import seedu.address.model.club.exceptions.DuplicateClubException;
 import seedu.address.model.field.Email;
 import seedu.address.model.field.Name;
 import seedu.address.model.membership.Membership;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -29,6 +34,10 @@ class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
     public static final String MESSAGE_INVALID_MEMBERSHIP_LINK =
             "Data file contains an invalid membership link: A person or club could not be found.";
+    public static final String MESSAGE_DUPLICATE_ID =
+            "Data file contains more than one person or club with the same id.";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonSerializableAddressBook.class);
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedClub> clubs = new ArrayList<>();
@@ -63,9 +72,7 @@ class JsonSerializableAddressBook {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
         clubs.addAll(source.getClubList().stream().map(JsonAdaptedClub::new).collect(Collectors.toList()));
 
-        Set<Membership> allMemberships = source.getMembershipList().stream().collect(Collectors.toSet());
-
-        memberships.addAll(allMemberships.stream()
+        memberships.addAll(source.getMembershipList().stream()
                 .map(JsonAdaptedMembership::new)
                 .toList());
     }
@@ -76,28 +83,50 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        List<Person> personList = new ArrayList<>(persons.size());
+        Map<Long, Person> personsById = new HashMap<>();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
             Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            if (person.hasId() && personsById.putIfAbsent(person.getId(), person) != null) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_ID);
             }
-            addressBook.addPerson(person);
+            personList.add(person);
         }
 
+        List<Club> clubList = new ArrayList<>(clubs.size());
+        Map<Long, Club> clubsById = new HashMap<>();
         for (final JsonAdaptedClub jsonAdaptedClub : clubs) {
             final Club club = jsonAdaptedClub.toModelType();
-            if (addressBook.hasClub(club)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_CLUB);
+            if (club.hasId() && clubsById.putIfAbsent(club.getId(), club) != null) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_ID);
             }
-            addressBook.addClub(club);
+            clubList.add(club);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.loadData(personList, clubList, List.of());
+        } catch (DuplicatePersonException e) {
+            logger.warning(e.getMessage());
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        } catch (DuplicateClubException e) {
+            logger.warning(e.getMessage());
+            throw new IllegalValueException(MESSAGE_DUPLICATE_CLUB);
         }
 
         // Re-link persons and clubs using the membership data
+        List<Membership> membershipList = new ArrayList<>(memberships.size());
         for (final JsonAdaptedMembership jsonAdaptedMembership : memberships) {
-            // Find the already-loaded Person and Club objects from the address book
-            final Person person = addressBook.getPersonByEmail(new Email(jsonAdaptedMembership.getPersonEmail())).get();
-            final Club club = addressBook.getClubByName(new Name(jsonAdaptedMembership.getClubName())).get();
+            // Find the already-loaded Person and Club objects, by id if the file has them
+            final Person person = jsonAdaptedMembership.getPersonId() != null
+                    ? personsById.get(jsonAdaptedMembership.getPersonId())
+                    : addressBook.getPersonByEmail(new Email(jsonAdaptedMembership.getPersonEmail())).orElse(null);
+            final Club club = jsonAdaptedMembership.getClubId() != null
+                    ? clubsById.get(jsonAdaptedMembership.getClubId())
+                    : addressBook.getClubByName(new Name(jsonAdaptedMembership.getClubName())).orElse(null);
+            if (person == null || club == null) {
+                throw new IllegalValueException(MESSAGE_INVALID_MEMBERSHIP_LINK);
+            }
 
             // Use the model's own logic to create the membership link.
             Membership membership = new Membership(person, club, jsonAdaptedMembership.getJoinDate(),
@@ -105,8 +134,9 @@ class JsonSerializableAddressBook {
                     jsonAdaptedMembership.getStatus());
             club.addMembership(membership);
             person.addMembership(membership);
-            addressBook.addMembership(membership);
+            membershipList.add(membership);
         }
+        addressBook.setMemberships(membershipList);
         return addressBook;
     }
 }
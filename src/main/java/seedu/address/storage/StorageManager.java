@@ -75,4 +75,10 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public SaveTask snapshotAddressBook(ReadOnlyAddressBook addressBook) {
+        logger.fine("Capturing data to write to file: " + addressBookStorage.getAddressBookFilePath());
+        return addressBookStorage.snapshotAddressBook(addressBook);
+    }
+
 }
@@ -0,0 +1,128 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.stream.Collectors;
+
+import seedu.address.model.club.Club;
+import seedu.address.model.membership.Membership;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.TagSet;
+
+/**
+ * Caches what the cards show for each person and club beyond their plain fields: the sorted tag names and,
+ * for a person, the sorted membership labels. Persons and clubs are immutable apart from the memberships
+ * of a person, so an entry is reused until the person's memberships version moves on.
+ * Entries are dropped once their person or club is no longer reachable.
+ * Only to be used on the JavaFX application thread.
+ */
+final class CardSummaries {
+
+    private static final DateTimeFormatter EXPIRY_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    // Persons and clubs with equal fields are different keys of one entry, so each entry remembers its owner
+    private static final Map<Person, PersonSummary> personSummaries = new WeakHashMap<>();
+    private static final Map<Club, ClubSummary> clubSummaries = new WeakHashMap<>();
+
+    private CardSummaries() {}
+
+    /**
+     * Returns the summary of {@code person}, computing it if there is none for its current memberships version.
+     */
+    static PersonSummary of(Person person) {
+        requireNonNull(person);
+        PersonSummary summary = personSummaries.get(person);
+        if (summary == null || summary.owner.get() != person
+                || summary.membershipsVersion != person.getMembershipsVersion()) {
+            summary = new PersonSummary(person);
+            personSummaries.put(person, summary);
+        }
+        return summary;
+    }
+
+    /**
+     * Returns the summary of {@code club}, computing it on the first call.
+     */
+    static ClubSummary of(Club club) {
+        requireNonNull(club);
+        ClubSummary summary = clubSummaries.get(club);
+        if (summary == null || summary.owner.get() != club) {
+            summary = new ClubSummary(club);
+            clubSummaries.put(club, summary);
+        }
+        return summary;
+    }
+
+    private static List<String> sortedTagNames(TagSet tags) {
+        return tags.stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * What a {@code PersonCard} shows for the tags and memberships of one version of a person.
+     */
+    static final class PersonSummary {
+        final List<String> tagNames;
+        final List<MembershipLabel> membershipLabels;
+        private final WeakReference<Person> owner;
+        private final int membershipsVersion;
+
+        private PersonSummary(Person person) {
+            this.owner = new WeakReference<>(person);
+            this.membershipsVersion = person.getMembershipsVersion();
+            this.tagNames = sortedTagNames(person.getTags());
+            this.membershipLabels = person.getMemberships().stream()
+                    .sorted(Comparator.comparing(Membership::getClubName))
+                    .map(MembershipLabel::new)
+                    .collect(Collectors.toUnmodifiableList());
+        }
+    }
+
+    /**
+     * What a {@code ClubCard} shows for the tags of a club.
+     */
+    static final class ClubSummary {
+        final List<String> tagNames;
+        private final WeakReference<Club> owner;
+
+        private ClubSummary(Club club) {
+            this.owner = new WeakReference<>(club);
+            this.tagNames = sortedTagNames(club.getTags());
+        }
+    }
+
+    /**
+     * The text and style class of the label showing one membership.
+     */
+    static final class MembershipLabel {
+        final String text;
+        final String styleClass;
+
+        private MembershipLabel(Membership membership) {
+            this.text = membership.getClubName() + ": until " + membership.getExpiryDate().format(EXPIRY_FORMATTER);
+            this.styleClass = styleClassOf(membership);
+        }
+
+        private static String styleClassOf(Membership membership) {
+            switch (membership.getStatus()) {
+            case EXPIRED:
+                return "membership-expired";
+            case PENDING_CANCELLATION:
+                return "membership-pending-cancellation";
+            case CANCELLED:
+                return "membership-cancelled";
+            case ACTIVE:
+            default:
+                return "membership-active";
+            }
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
-
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
@@ -24,7 +22,7 @@ public class ClubCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Club club;
+    private Club club;
 
     @FXML
     private HBox cardPane;
@@ -49,39 +47,46 @@ public class ClubCard extends UiPart<Region> {
     @FXML
     private FlowPane tags;
 
+    /**
+     * Creates an empty {@code ClubCard}, to be filled in by {@link #setClub(Club, int)}.
+     */
+    public ClubCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code ClubCode} with the given {@code Club} and index to display.
      */
     public ClubCard(Club club, int displayedIndex) {
-        super(FXML);
-        this.club = club;
-        id.setText(displayedIndex + ". ");
-        name.setText(club.getName().fullName);
-        memberCount.setText(club.getMemberCount() + "");
+        this();
+        setClub(club, displayedIndex);
+    }
 
-        if (club.getPhone().value.isEmpty()) {
-            phoneRow.setVisible(false);
-            phoneRow.setManaged(false);
-        } else {
-            phone.setText(club.getPhone().value);
-        }
+    public Club getClub() {
+        return club;
+    }
 
-        if (club.getAddress().value.isEmpty()) {
-            addressRow.setVisible(false);
-            addressRow.setManaged(false);
-        } else {
-            address.setText(club.getAddress().value);
+    /**
+     * Shows {@code club} at {@code displayedIndex} on this card, updating its labels in place.
+     * Nothing but the index is touched if the card already shows {@code club}.
+     */
+    public void setClub(Club club, int displayedIndex) {
+        id.setText(displayedIndex + ". ");
+        if (club == this.club) {
+            return;
         }
+        this.club = club;
 
-        if (club.getEmail().value.isEmpty()) {
-            emailRow.setVisible(false);
-            emailRow.setManaged(false);
-        } else {
-            email.setText(club.getEmail().value);
-        }
+        name.setText(club.getName().fullName);
+        memberCount.textProperty().bind(club.memberCountProperty().asString());
+        PersonCard.showRow(phoneRow, phone, club.getPhone().value);
+        PersonCard.showRow(addressRow, address, club.getAddress().value);
+        PersonCard.showRow(emailRow, email, club.getEmail().value);
 
-        club.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        CardSummaries.ClubSummary summary = CardSummaries.of(club);
+        PersonCard.setLabelCount(tags.getChildren(), summary.tagNames.size());
+        for (int i = 0; i < summary.tagNames.size(); i++) {
+            ((Label) tags.getChildren().get(i)).setText(summary.tagNames.get(i));
+        }
     }
 }
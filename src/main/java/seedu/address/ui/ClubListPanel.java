@@ -44,6 +44,9 @@ public class ClubListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Club} using a {@code ClubCard}.
      */
     class ClubListViewCell extends ListCell<Club> {
+        // Loaded once, on the first item shown, and updated in place for every item after that
+        private ClubCard card;
+
         @Override
         protected void updateItem(Club club, boolean empty) {
             super.updateItem(club, empty);
@@ -52,7 +55,11 @@ public class ClubListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new ClubCard(club, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new ClubCard();
+                }
+                card.setClub(club, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
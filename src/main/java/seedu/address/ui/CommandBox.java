@@ -1,14 +1,15 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.CommandList;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -19,9 +20,12 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private int runningCommands;
 
     @FXML
     private TextField commandTextField;
+    @FXML
+    private ProgressIndicator busyIndicator;
 
     /**
      * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
@@ -35,6 +39,7 @@ public class CommandBox extends UiPart<Region> {
 
     /**
      * Handles the Enter button pressed event.
+     * The command runs in the background, so more commands can be entered while it does; they run in order.
      */
     @FXML
     private void handleCommandEntered() {
@@ -43,12 +48,16 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
-        }
+        setRunningCommands(runningCommands + 1);
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            setRunningCommands(runningCommands - 1);
+            if (error != null) {
+                setStyleToIndicateCommandFailure();
+            } else if (commandTextField.getText().equals(commandText)) {
+                // Only cleared if nothing else has been typed since
+                commandTextField.setText("");
+            }
+        });
     }
 
     /**
@@ -72,6 +81,14 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Shows the busy indicator while {@code runningCommands} is positive.
+     */
+    private void setRunningCommands(int runningCommands) {
+        this.runningCommands = runningCommands;
+        busyIndicator.setVisible(runningCommands > 0);
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -98,10 +115,10 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command and returns its result, to be completed on the UI thread.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.Logic#executeAsync(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 }
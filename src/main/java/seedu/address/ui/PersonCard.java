@@ -1,15 +1,13 @@
 package seedu.address.ui;
 
-import java.time.format.DateTimeFormatter;
-import java.util.Comparator;
-
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
-import seedu.address.model.membership.Membership;
 import seedu.address.model.person.Person;
 
 /**
@@ -27,7 +25,8 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
+    private int membershipsVersion;
 
     @FXML
     private HBox cardPane;
@@ -52,65 +51,77 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private HBox emailRow;
 
+    /**
+     * Creates an empty {@code PersonCard}, to be filled in by {@link #setPerson(Person, int)}.
+     */
+    public PersonCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
-        this.person = person;
-        id.setText(displayedIndex + ". ");
-        name.setText(person.getName().fullName);
+        this();
+        setPerson(person, displayedIndex);
+    }
 
-        if (person.getPhone().value.isEmpty()) {
-            phoneRow.setVisible(false);
-            phoneRow.setManaged(false);
-        } else {
-            phone.setText(person.getPhone().value);
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Shows {@code person} at {@code displayedIndex} on this card, updating its labels in place.
+     * Nothing but the index is touched if the card already shows the same version of {@code person}.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        id.setText(displayedIndex + ". ");
+        if (person == this.person && person.getMembershipsVersion() == membershipsVersion) {
+            return;
         }
+        this.person = person;
+        this.membershipsVersion = person.getMembershipsVersion();
 
-        if (person.getAddress().value.isEmpty()) {
-            addressRow.setVisible(false);
-            addressRow.setManaged(false);
-        } else {
-            address.setText(person.getAddress().value);
+        name.setText(person.getName().fullName);
+        showRow(phoneRow, phone, person.getPhone().value);
+        showRow(addressRow, address, person.getAddress().value);
+        showRow(emailRow, email, person.getEmail().value);
+
+        CardSummaries.PersonSummary summary = CardSummaries.of(person);
+        setLabelCount(tags.getChildren(), summary.tagNames.size());
+        for (int i = 0; i < summary.tagNames.size(); i++) {
+            ((Label) tags.getChildren().get(i)).setText(summary.tagNames.get(i));
         }
 
-        if (person.getEmail().value.isEmpty()) {
-            emailRow.setVisible(false);
-            emailRow.setManaged(false);
-        } else {
-            email.setText(person.getEmail().value);
+        setLabelCount(memberships.getChildren(), summary.membershipLabels.size());
+        for (int i = 0; i < summary.membershipLabels.size(); i++) {
+            CardSummaries.MembershipLabel membershipLabel = summary.membershipLabels.get(i);
+            Label label = (Label) memberships.getChildren().get(i);
+            label.setText(membershipLabel.text);
+            label.getStyleClass().setAll("membership-label", membershipLabel.styleClass);
         }
+    }
 
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+    /**
+     * Shows {@code row} with {@code value} in {@code label}, or hides it if {@code value} is empty.
+     */
+    static void showRow(HBox row, Label label, String value) {
+        boolean hasValue = !value.isEmpty();
+        row.setVisible(hasValue);
+        row.setManaged(hasValue);
+        label.setText(value);
+    }
 
-        person.getMemberships().stream()
-                .sorted(Comparator.comparing(Membership::getClubName))
-                .forEach(membership -> {
-                    String clubName = membership.getClubName();
-                    String exp = membership.getExpiryDate().format(DateTimeFormatter.ofPattern("dd/MM/yyyy"));
-                    Label membershipLabel = new Label(clubName + ": until " + exp);
-                    membershipLabel.getStyleClass().add("membership-label");
-                    switch (membership.getStatus()) {
-                    case ACTIVE:
-                        membershipLabel.getStyleClass().add("membership-active");
-                        break;
-                    case EXPIRED:
-                        membershipLabel.getStyleClass().add("membership-expired");
-                        break;
-                    case PENDING_CANCELLATION:
-                        membershipLabel.getStyleClass().add("membership-pending-cancellation");
-                        break;
-                    case CANCELLED:
-                        membershipLabel.getStyleClass().add("membership-cancelled");
-                        break;
-                    default:
-                        membershipLabel.getStyleClass().add("membership-active");
-                        break;
-                    }
-                    memberships.getChildren().add(membershipLabel);
-                });
+    /**
+     * Adds or removes labels at the end of {@code labels} until there are {@code count} of them,
+     * so that the labels already there can be reused.
+     */
+    static void setLabelCount(ObservableList<Node> labels, int count) {
+        if (labels.size() > count) {
+            labels.remove(count, labels.size());
+        }
+        while (labels.size() < count) {
+            labels.add(new Label());
+        }
     }
 }
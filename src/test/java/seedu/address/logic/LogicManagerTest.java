@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -12,7 +14,15 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,6 +30,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddPersonCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeletePersonCommand;
 import seedu.address.logic.commands.FindPersonCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -83,6 +94,90 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void executeAsync_commandsInSequence_executeInOrderAndSave() throws Exception {
+        ExecutorService uiThread = Executors.newSingleThreadExecutor();
+        Path addressBookFilePath = temporaryFolder.resolve("asyncAddressBook.json");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(addressBookFilePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("asyncUserPrefs.json")));
+        Logic asyncLogic = new LogicManager(model, storage, uiThread);
+        try {
+            String addCommand = AddPersonCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                    + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+            CompletableFuture<CommandResult> added = asyncLogic.executeAsync(addCommand);
+            // Only succeeds if the person has been added by then
+            CompletableFuture<CommandResult> deleted =
+                    asyncLogic.executeAsync(DeletePersonCommand.COMMAND_WORD + " 1");
+
+            added.get(5, TimeUnit.SECONDS);
+            deleted.get(5, TimeUnit.SECONDS);
+            assertEquals(new ModelManager(), model);
+            assertTrue(Files.exists(addressBookFilePath));
+        } finally {
+            asyncLogic.stop();
+            uiThread.shutdown();
+        }
+    }
+
+    @Test
+    public void executeAsync_modelTaskAfterCommand_runsInOrderAndSaves() throws Exception {
+        ExecutorService uiThread = Executors.newSingleThreadExecutor();
+        Path addressBookFilePath = temporaryFolder.resolve("asyncAddressBook.json");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(addressBookFilePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("asyncUserPrefs.json")));
+        Logic asyncLogic = new LogicManager(model, storage, uiThread);
+        try {
+            String addCommand = AddPersonCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                    + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+            asyncLogic.executeAsync(addCommand);
+            // Only finds the person if the command has run by then
+            CompletableFuture<Void> deleted = asyncLogic.executeAsync(taskModel -> {
+                Person added = taskModel.getFilteredPersonList().get(0);
+                return Optional.of(() -> taskModel.deletePerson(added));
+            });
+
+            deleted.get(5, TimeUnit.SECONDS);
+            assertEquals(new ModelManager(), model);
+            assertTrue(Files.exists(addressBookFilePath));
+        } finally {
+            asyncLogic.stop();
+            uiThread.shutdown();
+        }
+    }
+
+    @Test
+    public void stop_commandsStillQueued_runsAndSavesThem() throws Exception {
+        // A UI thread that is busy stopping, so it never gets to the work handed to it
+        List<Runnable> neverRun = new ArrayList<>();
+        Path addressBookFilePath = temporaryFolder.resolve("stoppedAddressBook.json");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(addressBookFilePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("stoppedUserPrefs.json")));
+        Logic asyncLogic = new LogicManager(model, storage, neverRun::add);
+        String addCommand = AddPersonCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        CompletableFuture<CommandResult> added = asyncLogic.executeAsync(addCommand);
+
+        asyncLogic.stop();
+        assertTrue(added.isDone());
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertTrue(Files.exists(addressBookFilePath));
+    }
+
+    @Test
+    public void executeAsync_modelTaskWithoutChanges_doesNotSave() throws Exception {
+        logic.executeAsync(taskModel -> Optional.empty()).get(5, TimeUnit.SECONDS);
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void executeAsync_invalidCommand_completesWithParseException() throws Exception {
+        Throwable error = logic.executeAsync("uicfhmowqewca")
+                .handle((commandResult, exception) -> exception)
+                .get(5, TimeUnit.SECONDS);
+        assertTrue(error instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, error.getMessage());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
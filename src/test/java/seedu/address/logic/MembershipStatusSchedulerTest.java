@@ -0,0 +1,109 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.membership.Membership;
+import seedu.address.model.membership.MembershipStatus;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.ClubBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class MembershipStatusSchedulerTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Singapore");
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager();
+    private Path addressBookFilePath;
+    private LogicManager logic;
+
+    @BeforeEach
+    public void setUp() {
+        addressBookFilePath = temporaryFolder.resolve("addressBook.json");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(addressBookFilePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        logic.stop();
+    }
+
+    @Test
+    public void getDelayUntilMidnight_usesClockTimeZone() {
+        Clock clock = Clock.fixed(Instant.parse("2024-03-01T15:30:00Z"), ZONE); // 23:30 in Singapore
+        MembershipStatusScheduler scheduler = new MembershipStatusScheduler(logic, clock);
+        assertEquals(Duration.ofMinutes(30), scheduler.getDelayUntilMidnight());
+    }
+
+    @Test
+    public void updateStatuses_membershipDue_expiresAndSaves() throws Exception {
+        Membership membership =
+                new Membership(new PersonBuilder().build(), new ClubBuilder().build(), 1, LocalDate.now());
+        model.addPerson(membership.getPerson());
+        model.addClub(membership.getClub());
+        model.addMembership(membership);
+        MembershipStatusScheduler scheduler = new MembershipStatusScheduler(logic, Clock.system(ZONE));
+
+        scheduler.updateStatuses(LocalDate.now().plusDays(1)).get(5, TimeUnit.SECONDS);
+        assertEquals(MembershipStatus.ACTIVE, membership.getStatus());
+        assertFalse(Files.exists(addressBookFilePath));
+
+        scheduler.updateStatuses(LocalDate.now().plusMonths(2)).get(5, TimeUnit.SECONDS);
+        assertEquals(MembershipStatus.EXPIRED, membership.getStatus());
+        assertTrue(Files.exists(addressBookFilePath));
+    }
+
+    @Test
+    public void updateStatuses_statusChangesOnUiThreadOnly() throws Exception {
+        Membership membership =
+                new Membership(new PersonBuilder().build(), new ClubBuilder().build(), 1, LocalDate.now());
+        model.addPerson(membership.getPerson());
+        model.addClub(membership.getClub());
+        model.addMembership(membership);
+        AtomicReference<String> changedOn = new AtomicReference<>();
+        membership.statusProperty().addListener((unused, oldStatus, newStatus) ->
+                changedOn.set(Thread.currentThread().getName()));
+
+        ExecutorService uiThread = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "ui"));
+        LogicManager uiLogic = new LogicManager(model, new StorageManager(
+                new JsonAddressBookStorage(addressBookFilePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))), uiThread);
+        try {
+            new MembershipStatusScheduler(uiLogic, Clock.system(ZONE))
+                    .updateStatuses(LocalDate.now().plusMonths(2)).get(5, TimeUnit.SECONDS);
+            assertEquals(MembershipStatus.EXPIRED, membership.getStatus());
+            assertEquals("ui", changedOn.get());
+            assertTrue(Files.exists(addressBookFilePath));
+        } finally {
+            uiLogic.stop();
+            uiThread.shutdown();
+        }
+    }
+}
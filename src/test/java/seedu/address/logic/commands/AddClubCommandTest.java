@@ -8,9 +8,14 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClubs.ARCHERY;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -24,6 +29,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.club.Club;
+import seedu.address.model.field.SearchField;
 import seedu.address.model.membership.Membership;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.ClubBuilder;
@@ -167,6 +173,11 @@ public final class AddClubCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void refineFilteredPersonList(Predicate<Person> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void sortFilteredPersonList(Comparator<Person> personComparator) {
             throw new AssertionError("This method should not be called.");
@@ -222,11 +233,71 @@ public final class AddClubCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void refineFilteredClubList(Predicate<Club> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void sortFilteredClubList(Comparator<Club> clubComparator) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Set<Long> getIdsOfPersonsTagged(BitSet tagKeyIds) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Long> getIdsOfClubsTagged(BitSet tagKeyIds) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Set<Long>> getIdsOfPersonsContaining(SearchField field, String keyword) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Set<Long>> getIdsOfClubsContaining(SearchField field, String keyword) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int updateMembershipStatus(LocalDate today) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public LocalDate getToday() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Membership> takeMembershipsDue(LocalDate today) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int compactMembershipHistory(LocalDate today) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void flushUpdates() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Membership> getFilteredMembershipList() {
             return null;
@@ -13,6 +13,8 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -58,7 +60,7 @@ public class AddMembershipCommandTest {
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
         Person expectedPerson = expectedModel.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
         Club expectedClub = expectedModel.getFilteredClubList().get(INDEX_FIRST_CLUB.getZeroBased());
-        expectedModel.addMembership(new Membership(expectedPerson, expectedClub));
+        expectedModel.addMembership(new Membership(expectedPerson, expectedClub, LocalDate.now()));
 
         assertCommandSuccess(addMembershipCommand, model, expectedMessage, expectedModel);
     }
@@ -78,8 +80,8 @@ public class AddMembershipCommandTest {
         Person expectedFirstPerson = expectedModel.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
         Person expectedSecondPerson = expectedModel.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
         Club expectedClub = expectedModel.getFilteredClubList().get(INDEX_FIRST_CLUB.getZeroBased());
-        expectedModel.addMembership(new Membership(expectedFirstPerson, expectedClub));
-        expectedModel.addMembership(new Membership(expectedSecondPerson, expectedClub));
+        expectedModel.addMembership(new Membership(expectedFirstPerson, expectedClub, LocalDate.now()));
+        expectedModel.addMembership(new Membership(expectedSecondPerson, expectedClub, LocalDate.now()));
 
         assertCommandSuccess(addMembershipCommand, model, expectedMessage, expectedModel);
     }
@@ -88,7 +90,7 @@ public class AddMembershipCommandTest {
     public void execute_duplicateMembership_failure() {
         Person personToAdd = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
         Club clubToAddTo = model.getFilteredClubList().get(INDEX_FIRST_CLUB.getZeroBased());
-        model.addMembership(new Membership(personToAdd, clubToAddTo));
+        model.addMembership(new Membership(personToAdd, clubToAddTo, LocalDate.now()));
 
         AddMembershipCommand addMembershipCommand =
                 new AddMembershipCommand(new Index[]{INDEX_FIRST_PERSON}, new Index[]{INDEX_FIRST_CLUB});
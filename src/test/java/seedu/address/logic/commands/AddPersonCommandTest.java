@@ -10,10 +10,14 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_CLUB;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -29,6 +33,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.club.Club;
+import seedu.address.model.field.SearchField;
 import seedu.address.model.membership.Membership;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.ClubBuilder;
@@ -71,7 +76,8 @@ public class AddPersonCommandTest {
 
         command.execute(modelStub);
 
-        assertTrue(modelStub.hasMembership(new Membership(person, modelStub.getFilteredClubList().get(0))));
+        assertTrue(modelStub.hasMembership(
+                new Membership(person, modelStub.getFilteredClubList().get(0), LocalDate.now())));
     }
 
     @Test
@@ -88,7 +94,8 @@ public class AddPersonCommandTest {
                 + System.lineSeparator();
 
         assertEquals(expectedMessage, commandResult.getFeedbackToUser());
-        assertFalse(modelStub.hasMembership(new Membership(person, modelStub.getFilteredClubList().get(0))));
+        assertFalse(modelStub.hasMembership(
+                new Membership(person, modelStub.getFilteredClubList().get(0), LocalDate.now())));
     }
 
     @Test
@@ -107,7 +114,7 @@ public class AddPersonCommandTest {
                 + String.format(AddMembershipCommand.MESSAGE_ADDED_TO_CLUB, person.getName(), validClub.getName());
 
         assertEquals(expectedMessage, commandResult.getFeedbackToUser());
-        assertTrue(modelStub.hasMembership(new Membership(person, validClub)));
+        assertTrue(modelStub.hasMembership(new Membership(person, validClub, LocalDate.now())));
     }
 
     @Test
@@ -220,6 +227,11 @@ public class AddPersonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void refineFilteredPersonList(Predicate<Person> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void sortFilteredPersonList(Comparator<Person> personComparator) {
             throw new AssertionError("This method should not be called.");
@@ -275,11 +287,71 @@ public class AddPersonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void refineFilteredClubList(Predicate<Club> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void sortFilteredClubList(Comparator<Club> clubComparator) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Set<Long> getIdsOfPersonsTagged(BitSet tagKeyIds) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Long> getIdsOfClubsTagged(BitSet tagKeyIds) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Set<Long>> getIdsOfPersonsContaining(SearchField field, String keyword) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Set<Long>> getIdsOfClubsContaining(SearchField field, String keyword) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int updateMembershipStatus(LocalDate today) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public LocalDate getToday() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Membership> takeMembershipsDue(LocalDate today) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int compactMembershipHistory(LocalDate today) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void flushUpdates() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Membership> getFilteredMembershipList() {
             return null;
@@ -358,6 +430,11 @@ public class AddPersonCommandTest {
             return FXCollections.observableArrayList(club);
         }
 
+        @Override
+        public LocalDate getToday() {
+            return LocalDate.now();
+        }
+
         @Override
         public void addMembership(Membership membership) {
             memberships.add(membership);
@@ -10,6 +10,8 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_CLUB;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalPersonsAndClubs.getTypicalAddressBook;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -73,7 +75,8 @@ public class CancelMembershipCommandTest {
         // Manually set it to CANCELLED for this test case
         model.getFilteredMembershipList().stream()
                 .filter(m -> m.getPerson().isSamePerson(person) && m.getClub().isSameClub(club))
-                .findFirst().get().updateStatus(); // This will move it to CANCELLED if expired, or keep as PENDING
+                // This will move it to CANCELLED if expired, or keep as PENDING
+                .findFirst().get().updateStatus(LocalDate.now());
         // To be certain, we can manually set it
         model.getFilteredMembershipList().stream()
                 .filter(m -> m.getPerson().isSamePerson(person) && m.getClub().isSameClub(club))
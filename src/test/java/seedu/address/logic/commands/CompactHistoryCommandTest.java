@@ -0,0 +1,52 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.membership.EventType;
+import seedu.address.model.membership.Membership;
+import seedu.address.model.membership.MembershipEvent;
+import seedu.address.testutil.ClubBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class CompactHistoryCommandTest {
+
+    @Test
+    public void execute_oldRenewals_foldedIntoSummary() {
+        LocalDate today = LocalDate.now();
+        Membership membership = new Membership(new PersonBuilder().build(), new ClubBuilder().build(), 1,
+                today.minusYears(5));
+        membership.renew(1, today.minusYears(4));
+        membership.renew(2, today.minusYears(3));
+        membership.renew(3, today.minusMonths(1));
+
+        Model model = new ModelManager();
+        model.addPerson(membership.getPerson());
+        model.addClub(membership.getClub());
+        model.addMembership(membership);
+
+        CommandResult result = new CompactHistoryCommand().execute(model);
+
+        assertEquals(String.format(CompactHistoryCommand.MESSAGE_SUCCESS, 1), result.getFeedbackToUser());
+        assertEquals(3, membership.getMembershipEventHistory().size());
+        MembershipEvent summary = membership.getMembershipEventHistory().get(1);
+        assertEquals(EventType.SUMMARY, summary.getEventType());
+        assertEquals(2, summary.getEventCount());
+        assertEquals(3, summary.getMonthsAdded());
+    }
+
+    @Test
+    public void execute_nothingToCompact_success() {
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+        assertCommandSuccess(new CompactHistoryCommand(), model,
+                String.format(CompactHistoryCommand.MESSAGE_SUCCESS, 0), new ModelManager());
+    }
+}
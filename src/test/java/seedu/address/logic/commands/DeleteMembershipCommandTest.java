@@ -12,6 +12,8 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -48,7 +50,7 @@ public class DeleteMembershipCommandTest {
     public void execute_removeSinglePersonFromSingleClub_success() {
         Person personToRemove = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
         Club clubToRemoveFrom = model.getFilteredClubList().get(INDEX_FIRST_CLUB.getZeroBased());
-        Membership membership = new Membership(personToRemove, clubToRemoveFrom);
+        Membership membership = new Membership(personToRemove, clubToRemoveFrom, LocalDate.now());
         model.addMembership(membership);
 
         DeleteMembershipCommand deleteMembershipCommand = new DeleteMembershipCommand(
@@ -69,8 +71,8 @@ public class DeleteMembershipCommandTest {
         Person secondPerson = model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
         Club clubToRemoveFrom = model.getFilteredClubList().get(INDEX_FIRST_CLUB.getZeroBased());
 
-        Membership firstMembership = new Membership(firstPerson, clubToRemoveFrom);
-        Membership secondMembership = new Membership(secondPerson, clubToRemoveFrom);
+        Membership firstMembership = new Membership(firstPerson, clubToRemoveFrom, LocalDate.now());
+        Membership secondMembership = new Membership(secondPerson, clubToRemoveFrom, LocalDate.now());
         model.addMembership(firstMembership);
         model.addMembership(secondMembership);
 
@@ -26,6 +26,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.club.Club;
+import seedu.address.testutil.ClubBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindClubCommand}.
@@ -123,12 +124,27 @@ public class FindClubCommandTest {
         assertEquals(Collections.singletonList(ARCHERY), model.getFilteredClubList());
     }
 
+    @Test
+    public void execute_nameSearchThenRenameClubToMatch_renamedClubShown() {
+        CombinedSearchPredicate<Club> predicate = new CombinedSearchPredicate<>();
+        predicate.add(prepareNamePredicate("archery"));
+        new FindClubCommand(predicate).execute(model);
+        Club chess = model.getAddressBook().getClubList().stream()
+                .filter(club -> club.isSameClub(CHESS)).findFirst().get();
+        assertFalse(model.getFilteredClubList().contains(chess));
+
+        Club renamedChess = new ClubBuilder(chess).withName("Archery and Chess Club").build();
+        model.setClub(chess, renamedChess);
+        assertTrue(model.getFilteredClubList().contains(renamedChess));
+    }
+
     @Test
     public void toStringMethod() {
         CombinedSearchPredicate<Club> predicate = new CombinedSearchPredicate<>();
         predicate.add(new NameMatchesPredicate<>(Arrays.asList("keyword")));
         FindClubCommand findCommand = new FindClubCommand(predicate);
-        String expected = FindClubCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FindClubCommand.class.getCanonicalName() + "{predicate=" + predicate
+                + ", isExplained=false}";
         assertEquals(expected, findCommand.toString());
     }
 
@@ -26,6 +26,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindPersonCommand}.
@@ -123,12 +124,82 @@ public class FindPersonCommandTest {
         assertEquals(Collections.singletonList(ALICE), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_explain_reportsPlanAndTiming() {
+        CombinedSearchPredicate<Person> predicate = new CombinedSearchPredicate<>();
+        predicate.add(prepareNamePredicate("Paul"));
+        predicate.add(prepareTagPredicate("friend"));
+        CommandResult result = new FindPersonCommand(predicate, true).execute(model);
+
+        String[] lines = result.getFeedbackToUser().split("\n");
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1), lines[0]);
+        assertEquals("Plan:", lines[1]);
+        assertTrue(lines[2].startsWith("  Candidates: "));
+        assertTrue(lines[3].startsWith("  1. TagsMatchPredicate"));
+        assertTrue(lines[4].startsWith("  2. NameMatchesPredicate"));
+        assertTrue(lines[5].startsWith("Planned in "));
+        assertEquals(Collections.singletonList(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_tagSearchThenAddMatchingPerson_newPersonShown() {
+        CombinedSearchPredicate<Person> predicate = new CombinedSearchPredicate<>();
+        predicate.add(prepareTagPredicate("friends"));
+        new FindPersonCommand(predicate).execute(model);
+
+        Person newFriend = new PersonBuilder().withName("Zed Friend").withEmail("zed@example.com")
+                .withTags("friends").build();
+        model.addPerson(newFriend);
+        assertTrue(model.getFilteredPersonList().contains(newFriend));
+    }
+
+    @Test
+    public void execute_tagSearchThenEditPersonToMatch_editedPersonShown() {
+        CombinedSearchPredicate<Person> predicate = new CombinedSearchPredicate<>();
+        predicate.add(prepareTagPredicate("friends"));
+        new FindPersonCommand(predicate).execute(model);
+        Person carl = model.getAddressBook().getPersonList().stream()
+                .filter(person -> person.isSamePerson(CARL)).findFirst().get();
+        assertFalse(model.getFilteredPersonList().contains(carl));
+
+        // the edited person was not a candidate when the search ran, but matches now
+        Person taggedCarl = new PersonBuilder(carl).withTags("friends").build();
+        model.setPerson(carl, taggedCarl);
+        assertTrue(model.getFilteredPersonList().contains(taggedCarl));
+    }
+
+    @Test
+    public void execute_nameSearchThenAddMatchingPerson_newPersonShown() {
+        CombinedSearchPredicate<Person> predicate = new CombinedSearchPredicate<>();
+        predicate.add(prepareNamePredicate("alice"));
+        new FindPersonCommand(predicate).execute(model);
+
+        Person aliceTan = new PersonBuilder().withName("Alice Tan").withEmail("tan@example.com").build();
+        model.addPerson(aliceTan);
+        assertTrue(model.getFilteredPersonList().contains(aliceTan));
+    }
+
+    @Test
+    public void execute_nameSearchThenRenamePersonToMatch_renamedPersonShown() {
+        CombinedSearchPredicate<Person> predicate = new CombinedSearchPredicate<>();
+        predicate.add(prepareNamePredicate("alice"));
+        new FindPersonCommand(predicate).execute(model);
+        Person carl = model.getAddressBook().getPersonList().stream()
+                .filter(person -> person.isSamePerson(CARL)).findFirst().get();
+
+        // the substring index did not list the person under "alice" when the search ran
+        Person renamedCarl = new PersonBuilder(carl).withName("Alice Kurz").build();
+        model.setPerson(carl, renamedCarl);
+        assertTrue(model.getFilteredPersonList().contains(renamedCarl));
+    }
+
     @Test
     public void toStringMethod() {
         CombinedSearchPredicate<Person> predicate = new CombinedSearchPredicate<>();
         predicate.add(new NameMatchesPredicate<>(Arrays.asList("keyword")));
         FindPersonCommand findCommand = new FindPersonCommand(predicate);
-        String expected = FindPersonCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FindPersonCommand.class.getCanonicalName() + "{predicate=" + predicate
+                + ", isExplained=false}";
         assertEquals(expected, findCommand.toString());
     }
 
@@ -10,6 +10,8 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -59,7 +61,7 @@ public class GetHistoryCommandTest {
         // Setup: Add a membership to the first person
         Person personToGet = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
         Club club = model.getFilteredClubList().get(0);
-        Membership membership = new Membership(personToGet, club);
+        Membership membership = new Membership(personToGet, club, LocalDate.now());
 
         // Add the membership to the model, person, and club to simulate the full command behavior
         model.addMembership(membership);
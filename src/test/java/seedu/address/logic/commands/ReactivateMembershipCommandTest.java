@@ -120,7 +120,7 @@ public class ReactivateMembershipCommandTest {
         // Setup model with an active membership
         Person person = new PersonBuilder().build();
         Club club = new ClubBuilder().build();
-        Membership activeMembership = new Membership(person, club); // Defaults to active
+        Membership activeMembership = new Membership(person, club, LocalDate.now()); // Defaults to active
         // Manually link the membership to the person and club
         person.addMembership(activeMembership);
         club.addMembership(activeMembership);
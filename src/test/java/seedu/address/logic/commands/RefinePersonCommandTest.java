@@ -0,0 +1,72 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.search.CombinedSearchPredicate;
+import seedu.address.logic.search.predicates.NameMatchesPredicate;
+import seedu.address.logic.search.predicates.TagsMatchPredicate;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code RefinePersonCommand}.
+ */
+public class RefinePersonCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        CombinedSearchPredicate<Person> firstPredicate = new CombinedSearchPredicate<>();
+        CombinedSearchPredicate<Person> secondPredicate = new CombinedSearchPredicate<>();
+        firstPredicate.add(new NameMatchesPredicate<>(Collections.singletonList("first")));
+        secondPredicate.add(new NameMatchesPredicate<>(Collections.singletonList("second")));
+
+        RefinePersonCommand refineFirstCommand = new RefinePersonCommand(firstPredicate);
+
+        // same object -> returns true
+        assertTrue(refineFirstCommand.equals(refineFirstCommand));
+
+        // same value -> returns true
+        assertTrue(refineFirstCommand.equals(new RefinePersonCommand(firstPredicate)));
+
+        // different types -> returns false
+        assertFalse(refineFirstCommand.equals(new FindPersonCommand(firstPredicate)));
+
+        // null -> returns false
+        assertFalse(refineFirstCommand.equals(null));
+
+        // different predicate -> returns false
+        assertFalse(refineFirstCommand.equals(new RefinePersonCommand(secondPredicate)));
+    }
+
+    @Test
+    public void execute_afterFind_keepsMatchingListedPersons() {
+        CombinedSearchPredicate<Person> findPredicate = new CombinedSearchPredicate<>();
+        findPredicate.add(new NameMatchesPredicate<>(Arrays.asList("Meier")));
+        model.updateFilteredPersonList(findPredicate);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+
+        CombinedSearchPredicate<Person> refinePredicate = new CombinedSearchPredicate<>();
+        refinePredicate.add(new TagsMatchPredicate<>(Arrays.asList("owesMoney")));
+        expectedModel.updateFilteredPersonList(person -> person.equals(BENSON));
+
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        assertCommandSuccess(new RefinePersonCommand(refinePredicate), model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(BENSON), model.getFilteredPersonList());
+    }
+}
@@ -23,6 +23,7 @@ import seedu.address.logic.commands.EditPersonCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindPersonCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.RefinePersonCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.search.CombinedSearchPredicate;
 import seedu.address.logic.search.predicates.NameMatchesPredicate;
@@ -94,6 +95,16 @@ public class AddressBookParserTest {
         assertEquals(new FindPersonCommand(predicate), command);
     }
 
+    @Test
+    public void parseCommand_refine() throws Exception {
+        List<String> keywords = Arrays.asList("foo", "bar", "baz");
+        CombinedSearchPredicate<Person> predicate = new CombinedSearchPredicate<>();
+        predicate.add(new NameMatchesPredicate<>(keywords));
+        RefinePersonCommand command = (RefinePersonCommand) parser.parseCommand(
+                RefinePersonCommand.COMMAND_SHORT + " " + PREFIX_NAME + String.join(" ", keywords));
+        assertEquals(new RefinePersonCommand(predicate), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -48,6 +48,11 @@ public class FindPersonCommandParserTest {
         expectedFindCommand = new FindPersonCommand(predicate);
 
         assertParseSuccess(parser, " n/ Alice Bob n/ Charlie t/ friends", expectedFindCommand);
+
+        // explain option
+        assertParseSuccess(parser, " EXPLAIN n/ Alice Bob n/ Charlie t/ friends",
+                new FindPersonCommand(predicate, true));
+        assertParseSuccess(parser, " explain ", new FindPersonCommand(new CombinedSearchPredicate<>(), true));
     }
 
     @Test
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.logic.parser.GetClubMessageParser.parse;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -25,8 +27,8 @@ public class GetClubMessageParserTest {
 
     @BeforeEach
     public void addMembers() {
-        club.addMember(memberA);
-        club.addMember(memberB);
+        club.addMember(memberA, LocalDate.now());
+        club.addMember(memberB, LocalDate.now());
     }
 
     @Test
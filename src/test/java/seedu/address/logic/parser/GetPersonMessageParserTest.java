@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.logic.parser.GetPersonMessageParser.parse;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -23,8 +25,8 @@ public class GetPersonMessageParserTest {
 
     @BeforeEach
     public void addMembers() {
-        membershipA.addMember(person);
-        membershipB.addMember(person);
+        membershipA.addMember(person, LocalDate.now());
+        membershipB.addMember(person, LocalDate.now());
     }
 
     @Test
@@ -5,13 +5,19 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.search.predicates.AddressMatchesPredicate;
 import seedu.address.logic.search.predicates.NameMatchesPredicate;
+import seedu.address.logic.search.predicates.StatusesMatchPredicate;
 import seedu.address.logic.search.predicates.TagsMatchPredicate;
+import seedu.address.model.membership.MembershipStatus;
 import seedu.address.model.person.Person;
+import seedu.address.model.util.RefinablePredicate;
 import seedu.address.testutil.PersonBuilder;
 
 public class CombinedSearchPredicateTest {
@@ -56,6 +62,90 @@ public class CombinedSearchPredicateTest {
         assertFalse(firstCombinedPredicate.equals(3));
     }
 
+    @Test
+    public void refines() {
+        NameMatchesPredicate<Person> namePredicate = new NameMatchesPredicate<>(Arrays.asList("Alice"));
+        TagsMatchPredicate<Person> tagPredicate = new TagsMatchPredicate<>(Arrays.asList("paid"));
+        CombinedSearchPredicate<Person> byName = new CombinedSearchPredicate<>();
+        byName.add(namePredicate);
+        CombinedSearchPredicate<Person> byNameAndTag = new CombinedSearchPredicate<>();
+        byNameAndTag.add(namePredicate);
+        byNameAndTag.add(new TagsMatchPredicate<>(Arrays.asList("paid")));
+
+        // more conditions -> returns true
+        assertTrue(byNameAndTag.refines(byName));
+        assertTrue(byName.refines(new CombinedSearchPredicate<Person>()));
+
+        // same conditions -> returns true
+        assertTrue(byName.refines(byName));
+
+        // compiled -> compared by its conditions
+        assertTrue(byNameAndTag.refines(byName.compile(keyIds -> Collections.emptySet(), (field, keyword)
+                -> Optional.of(Collections.emptySet()), Person::getId)));
+        assertTrue(byNameAndTag.compile(keyIds -> Collections.emptySet(), (field, keyword)
+                -> Optional.empty(), Person::getId) instanceof RefinablePredicate<?>);
+
+        // fewer or other conditions -> returns false
+        assertFalse(byName.refines(byNameAndTag));
+        CombinedSearchPredicate<Person> byTag = new CombinedSearchPredicate<>();
+        byTag.add(tagPredicate);
+        assertFalse(byName.refines(byTag));
+
+        // not a search -> returns false
+        assertFalse(byName.refines(person -> true));
+    }
+
+    @Test
+    public void test_checksStatusBeforeSubstringAndStopsAtFirstFailure() {
+        CombinedSearchPredicate<Person> predicate = new CombinedSearchPredicate<>();
+        predicate.add(person -> {
+            throw new AssertionError("Checked after a failed condition");
+        });
+        predicate.add(new NameMatchesPredicate<>(List.of("Alice")));
+        predicate.add(new StatusesMatchPredicate<>(List.of(MembershipStatus.ACTIVE)));
+
+        // no memberships -> the status condition fails first
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice").build()));
+    }
+
+    @Test
+    public void compile_explainsCandidatesAndOrder() {
+        CombinedSearchPredicate<Person> predicate = new CombinedSearchPredicate<>();
+        predicate.add(new NameMatchesPredicate<>(List.of("Alice")));
+        predicate.add(new StatusesMatchPredicate<>(List.of(MembershipStatus.ACTIVE)));
+        Person alice = new PersonBuilder().withName("Alice").build();
+
+        SearchPlan<Person> plan = predicate.compile(keyIds -> Set.of(), (field, keyword)
+                -> Optional.of(Set.of(alice.getId())), Person::getId);
+        String explanation = plan.explain();
+        assertTrue(explanation.contains("Candidates: name index 1 -> 1 ids"));
+        assertTrue(explanation.indexOf("1. StatusesMatchPredicate") < explanation.indexOf("2. NameMatchesPredicate"));
+
+        // keyword too short to look up -> every object is a candidate
+        plan = predicate.compile(keyIds -> Set.of(), (field, keyword) -> Optional.empty(), Person::getId);
+        assertTrue(plan.explain().contains("Candidates: all"));
+
+        // not a candidate -> rejected without checking the conditions
+        plan = predicate.compile(keyIds -> Set.of(), (field, keyword) -> Optional.of(Set.of()), Person::getId);
+        assertFalse(plan.test(alice));
+    }
+
+    @Test
+    public void release_objectNotAmongTagCandidates_checkedInFull() {
+        CombinedSearchPredicate<Person> predicate = new CombinedSearchPredicate<>();
+        predicate.add(new TagsMatchPredicate<>(List.of("friends")));
+        Person friend = new PersonBuilder().withId(2).withTags("friends").build();
+
+        // the tag index did not know the person when the plan was made
+        SearchPlan<Person> plan = predicate.compile(keyIds -> Set.of(1L), (field, keyword) -> Optional.empty(),
+                Person::getId);
+        assertFalse(plan.test(friend));
+
+        plan.release();
+        assertTrue(plan.test(friend));
+        assertFalse(plan.test(new PersonBuilder().withId(3).build()));
+    }
+
     @Test
     public void test_personSatisfiesAllPredicates_returnsTrue() {
         CombinedSearchPredicate<Person> predicate = new CombinedSearchPredicate<>();
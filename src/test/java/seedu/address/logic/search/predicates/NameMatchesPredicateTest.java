@@ -51,6 +51,10 @@ public class NameMatchesPredicateTest {
         // Substring keywords
         predicate = new NameMatchesPredicate<>(Arrays.asList("john"));
         assertTrue(predicate.test(new PersonBuilder().withName("John SWE").build()));
+
+        // Full-width keyword
+        predicate = new NameMatchesPredicate<>(Arrays.asList("\uFF2AOHN"));
+        assertTrue(predicate.test(new PersonBuilder().withName("John SWE").build()));
     }
 
     @Test
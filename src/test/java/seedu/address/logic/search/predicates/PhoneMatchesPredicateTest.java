@@ -51,6 +51,10 @@ public class PhoneMatchesPredicateTest {
         // Substring keywords
         predicate = new PhoneMatchesPredicate<>(Arrays.asList("2752"));
         assertTrue(predicate.test(new ClubBuilder().withPhone("5275 2752").build()));
+
+        // Digits across a space
+        predicate = new PhoneMatchesPredicate<>(Arrays.asList("52752752"));
+        assertTrue(predicate.test(new ClubBuilder().withPhone("5275 2752").build()));
     }
 
     @Test
@@ -62,6 +66,10 @@ public class PhoneMatchesPredicateTest {
         // Non-matching keyword
         predicate = new PhoneMatchesPredicate<>(Arrays.asList("1", "9999 9999 9999"));
         assertFalse(predicate.test(new PersonBuilder().withPhone("9999 9999").build()));
+
+        // Keyword with letters -> digits alone are not matched
+        predicate = new PhoneMatchesPredicate<>(Arrays.asList("99x99"));
+        assertFalse(predicate.test(new PersonBuilder().withPhone("9999 9999").build()));
     }
 
     @Test
@@ -7,13 +7,18 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -22,9 +27,12 @@ import javafx.collections.ObservableList;
 import seedu.address.model.club.Club;
 import seedu.address.model.field.Email;
 import seedu.address.model.field.Name;
+import seedu.address.model.field.SearchField;
 import seedu.address.model.membership.Membership;
+import seedu.address.model.membership.MembershipStatus;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.testutil.ClubBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -59,6 +67,75 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void loadData_withDuplicates_reportsEveryDuplicateAndKeepsData() {
+        AddressBook original = getTypicalAddressBook();
+        addressBook.resetData(original);
+
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Person editedBob = new PersonBuilder(BOB).withPhone("99999999").build();
+        List<Person> newPersons = Arrays.asList(ALICE, BOB, editedAlice, editedBob);
+
+        DuplicatePersonException e = org.junit.jupiter.api.Assertions.assertThrows(
+                DuplicatePersonException.class, () -> addressBook.loadData(newPersons, List.of(), List.of()));
+        assertEquals(Arrays.asList(editedAlice, editedBob), e.getDuplicates());
+        assertEquals(original, addressBook);
+    }
+
+    @Test
+    public void setPerson_personWithMemberships_relinksOnlyThatPersonsMemberships() {
+        Person alice = new PersonBuilder(ALICE).build();
+        Person bob = new PersonBuilder(BOB).build();
+        Club club = new ClubBuilder().build();
+        Membership aliceMembership = new Membership(alice, club, LocalDate.now());
+        Membership bobMembership = new Membership(bob, club, LocalDate.now());
+        addressBook.loadData(List.of(alice, bob), List.of(club), List.of(aliceMembership, bobMembership));
+        club.addMembership(aliceMembership);
+        club.addMembership(bobMembership);
+        alice.addMembership(aliceMembership);
+
+        Person editedAlice = new PersonBuilder(alice).withEmail("edited@example.com").build();
+        addressBook.setPerson(alice, editedAlice);
+
+        Membership relinked = addressBook.getMembershipList().get(0);
+        assertEquals(editedAlice, relinked.getPerson());
+        assertEquals(List.of(relinked), editedAlice.getMemberships());
+        assertEquals(List.of(relinked, bobMembership), club.getMemberships());
+        assertTrue(alice.getMemberships().isEmpty());
+        assertEquals(bobMembership, addressBook.getMembershipList().get(1));
+    }
+
+    @Test
+    public void setPerson_editedPersonKeepsId_keepsMembershipInPlace() {
+        Person alice = new PersonBuilder(ALICE).build();
+        Club club = new ClubBuilder().build();
+        Membership membership = new Membership(alice, club, LocalDate.now());
+        addressBook.loadData(List.of(alice), List.of(club), List.of(membership));
+
+        Person editedAlice = new Person(alice.getId(), alice.getName(), alice.getPhone(),
+                new Email("edited@example.com"), alice.getAddress(), alice.getTags());
+        addressBook.setPerson(alice, editedAlice);
+
+        assertEquals(editedAlice, membership.getPerson());
+        assertTrue(addressBook.hasMembership(new Membership(editedAlice, club, LocalDate.now())));
+        assertFalse(addressBook.hasMembership(
+                new Membership(new PersonBuilder(editedAlice).build(), club, LocalDate.now())));
+    }
+
+    @Test
+    public void setPerson_editedName_updatesSubstringIndex() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Tan").build();
+        addressBook.setPerson(ALICE, editedAlice);
+
+        assertEquals(Optional.of(Set.of()), addressBook.getIdsOfPersonsContaining(SearchField.NAME, "pauline"));
+        assertEquals(Optional.of(Set.of(editedAlice.getId())),
+                addressBook.getIdsOfPersonsContaining(SearchField.NAME, "alicia"));
+
+        addressBook.removePerson(editedAlice);
+        assertEquals(Optional.of(Set.of()), addressBook.getIdsOfPersonsContaining(SearchField.NAME, "alicia"));
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -152,4 +229,42 @@ public class AddressBookTest {
 
         assertFalse(ab.hasPerson(sameNameDifferentEmail));
     }
+
+    @Test
+    public void membershipChanges_useInjectedClock() {
+        LocalDate today = LocalDate.of(2024, 1, 31);
+        Clock clock = Clock.fixed(today.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+        AddressBook ab = new AddressBook(clock);
+        Person person = new PersonBuilder().build();
+        Club club = new ClubBuilder().build();
+        Membership expired = new Membership(person, club, 1, today.minusMonths(2));
+        ab.addPerson(person);
+        ab.addClub(club);
+        ab.addMembership(expired);
+
+        ab.updateMembershipStatus();
+        assertEquals(MembershipStatus.EXPIRED, expired.getStatus());
+
+        ab.reactivateMembership(person, club, 1);
+        assertEquals(today.plusMonths(1), expired.getExpiryDate());
+    }
+
+    @Test
+    public void getMembershipStatusesAsOf_doesNotChangeMemberships() {
+        AddressBook ab = new AddressBook();
+        Person person = new PersonBuilder().withId(1).build();
+        Membership shortMembership = new Membership(person, new ClubBuilder().withId(1).withName("Short")
+                .withEmail("short@example.com").build(), 1, LocalDate.now());
+        Membership longMembership = new Membership(person, new ClubBuilder().withId(2).withName("Long")
+                .withEmail("long@example.com").build(), 6, LocalDate.now());
+        longMembership.cancel(LocalDate.now());
+        ab.setMemberships(Arrays.asList(shortMembership, longMembership));
+
+        assertEquals(Arrays.asList(MembershipStatus.EXPIRED, MembershipStatus.PENDING_CANCELLATION),
+                ab.getMembershipStatusesAsOf(LocalDate.now().plusMonths(2)));
+        assertEquals(Arrays.asList(MembershipStatus.EXPIRED, MembershipStatus.CANCELLED),
+                ab.getMembershipStatusesAsOf(LocalDate.now().plusMonths(7)));
+        assertEquals(MembershipStatus.ACTIVE, shortMembership.getStatus());
+        assertEquals(MembershipStatus.PENDING_CANCELLATION, longMembership.getStatus());
+    }
 }
@@ -7,16 +7,36 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.club.Club;
+import seedu.address.model.membership.Membership;
+import seedu.address.model.membership.MembershipStatus;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.FilterPersonPredicate;
+import seedu.address.model.util.RefinablePredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.ClubBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -29,6 +49,25 @@ public class ModelManagerTest {
         assertEquals(new AddressBook(), new AddressBook(modelManager.getAddressBook()));
     }
 
+    @Test
+    public void constructor_withClock_datesMembershipChangesByClock() {
+        Person person = new PersonBuilder().build();
+        Club club = new ClubBuilder().build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(person);
+        addressBook.addClub(club);
+        addressBook.addMembership(new Membership(person, club, 1, LocalDate.of(2024, 1, 1)));
+
+        Clock beforeExpiry = Clock.fixed(Instant.parse("2024-01-15T00:00:00Z"), ZoneOffset.UTC);
+        ModelManager current = new ModelManager(addressBook, new UserPrefs(), beforeExpiry);
+        assertEquals(LocalDate.of(2024, 1, 15), current.getToday());
+        assertEquals(MembershipStatus.ACTIVE, current.getAddressBook().getMembershipList().get(0).getStatus());
+
+        Clock afterExpiry = Clock.fixed(Instant.parse("2024-03-01T00:00:00Z"), ZoneOffset.UTC);
+        ModelManager expired = new ModelManager(addressBook, new UserPrefs(), afterExpiry);
+        assertEquals(MembershipStatus.EXPIRED, expired.getAddressBook().getMembershipList().get(0).getStatus());
+    }
+
     @Test
     public void setUserPrefs_nullUserPrefs_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setUserPrefs(null));
@@ -129,4 +168,96 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
+    @Test
+    public void commitBatch_membershipsAdded_appliedInOneChange() {
+        Club club = new ClubBuilder().build();
+        Person alice = new PersonBuilder(ALICE).build();
+        Person benson = new PersonBuilder(BENSON).build();
+        modelManager.addClub(club);
+        modelManager.addPerson(alice);
+        modelManager.addPerson(benson);
+        List<Integer> changeSizes = new ArrayList<>();
+        modelManager.getAddressBook().getMembershipList().addListener((ListChangeListener<Membership>) change -> {
+            while (change.next()) {
+                changeSizes.add(change.getAddedSize());
+            }
+        });
+
+        modelManager.beginBatch();
+        modelManager.addMembership(new Membership(alice, club, LocalDate.now()));
+        modelManager.addMembership(new Membership(benson, club, LocalDate.now()));
+        assertTrue(modelManager.hasMembership(new Membership(benson, club, LocalDate.now())));
+        assertTrue(changeSizes.isEmpty());
+        modelManager.commitBatch();
+
+        assertEquals(List.of(2), changeSizes);
+        assertEquals(2, modelManager.getFilteredMembershipList().size());
+    }
+
+    @Test
+    public void updateFilteredPersonList_refinement_runsPredicateOnlyOnShownPersons() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.updateFilteredPersonList(new FilterPersonPredicate(List.of("n/meier")));
+
+        Set<Person> tested = new HashSet<>();
+        model.updateFilteredPersonList(new RefinablePredicate<Person>() {
+            @Override
+            public boolean test(Person person) {
+                tested.add(person);
+                return true;
+            }
+
+            @Override
+            public boolean refines(Predicate<?> other) {
+                return true;
+            }
+        });
+        assertEquals(Set.of(BENSON, DANIEL), tested);
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+
+        // Not a refinement -> every person is tested
+        tested.clear();
+        model.updateFilteredPersonList(tested::add);
+        assertEquals(7, tested.size());
+    }
+
+    @Test
+    public void refineFilteredPersonList_keepsShownPersonsThatMatch() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.updateFilteredPersonList(new FilterPersonPredicate(List.of("n/meier")));
+
+        Set<Person> tested = new HashSet<>();
+        model.refineFilteredPersonList(person -> {
+            tested.add(person);
+            return person.getTags().size() > 1;
+        });
+        assertEquals(Set.of(BENSON, DANIEL), tested);
+        assertEquals(List.of(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void sortFilteredPersonList_keepsAddressBookOrder() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<Person> addressBookOrder = new ArrayList<>(model.getAddressBook().getPersonList());
+        model.sortFilteredPersonList(Comparator.comparing(Person::getName).reversed());
+
+        assertEquals(addressBookOrder, model.getAddressBook().getPersonList());
+        assertEquals(addressBookOrder.get(addressBookOrder.size() - 1), model.getFilteredPersonList().get(0));
+
+        // Added person -> shown at its sorted place, appended to the address book
+        Person zed = new PersonBuilder().withName("Zed Zimmer").withEmail("zed@example.com").build();
+        model.addPerson(zed);
+        assertEquals(zed, model.getFilteredPersonList().get(0));
+        assertEquals(zed, model.getAddressBook().getPersonList().get(addressBookOrder.size()));
+
+        // No comparator -> address book order
+        model.sortFilteredPersonList(null);
+        assertEquals(model.getAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void commitBatch_noBatch_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> modelManager.commitBatch());
+    }
 }
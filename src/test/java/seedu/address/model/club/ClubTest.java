@@ -12,9 +12,14 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClubs.ARCHERY;
 import static seedu.address.testutil.TypicalClubs.BALL;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.membership.Membership;
+import seedu.address.model.membership.MembershipStatus;
 import seedu.address.testutil.ClubBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ClubTest {
 
@@ -114,4 +119,33 @@ public class ClubTest {
 
         assertEquals(expected, ARCHERY.toString());
     }
+
+    @Test
+    public void getMemberCount_followsMembershipChanges() {
+        Club club = new ClubBuilder().build();
+        LocalDate today = LocalDate.now();
+        Membership first = new Membership(new PersonBuilder().withEmail("first@example.com").build(), club, today);
+        Membership second = new Membership(new PersonBuilder().withEmail("second@example.com").build(), club, today);
+        club.addMembership(first);
+        club.addMembership(second);
+        assertEquals(2, club.getMemberCount());
+        assertEquals(2, club.getMembershipCount(MembershipStatus.ACTIVE));
+
+        first.cancel(LocalDate.now());
+        assertEquals(2, club.getMemberCount());
+        assertEquals(1, club.getMembershipCount(MembershipStatus.PENDING_CANCELLATION));
+
+        first.updateStatus(first.getExpiryDate().plusDays(1));
+        assertEquals(1, club.getMemberCount());
+        assertEquals(1, club.getMembershipCount(MembershipStatus.CANCELLED));
+
+        club.removeMember(second.getPerson());
+        assertEquals(0, club.getMemberCount());
+        assertEquals(0, club.getMembershipCount(MembershipStatus.ACTIVE));
+
+        // Removed memberships are no longer counted when their status changes
+        second.cancel(LocalDate.now());
+        assertEquals(0, club.getMembershipCount(MembershipStatus.PENDING_CANCELLATION));
+        assertEquals(0, club.memberCountProperty().get());
+    }
 }
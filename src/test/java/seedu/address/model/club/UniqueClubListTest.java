@@ -12,11 +12,15 @@ import static seedu.address.testutil.TypicalClubs.BALL;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.club.exceptions.ClubNotFoundException;
 import seedu.address.model.club.exceptions.DuplicateClubException;
+import seedu.address.model.field.Name;
+import seedu.address.model.field.SearchField;
 import seedu.address.testutil.ClubBuilder;
 
 public class UniqueClubListTest {
@@ -141,6 +145,21 @@ public class UniqueClubListTest {
         assertEquals(expectedUniqueClubList, uniqueClubList);
     }
 
+    @Test
+    public void takeClubs_uniqueClubList_takesOverContentsAndIndexes() {
+        uniqueClubList.add(ARCHERY);
+        UniqueClubList replacement = new UniqueClubList();
+        replacement.add(BALL);
+        uniqueClubList.takeClubs(replacement);
+
+        assertEquals(List.of(BALL), uniqueClubList.asUnmodifiableObservableList());
+        assertTrue(uniqueClubList.contains(BALL));
+        assertEquals(Optional.of(Set.of(BALL.getId())), uniqueClubList.getIdsContaining(SearchField.NAME, "ball"));
+        assertEquals(Optional.of(Set.of()), uniqueClubList.getIdsContaining(SearchField.NAME, "archery"));
+        assertEquals(List.of(), replacement.asUnmodifiableObservableList());
+        assertFalse(replacement.contains(BALL));
+    }
+
     @Test
     public void setClubs_nullList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueClubList.setClubs((List<Club>) null));
@@ -172,4 +191,79 @@ public class UniqueClubListTest {
     public void toStringMethod() {
         assertEquals(uniqueClubList.asUnmodifiableObservableList().toString(), uniqueClubList.toString());
     }
+
+    @Test
+    public void contains_clubWithSameNameDifferentCaseAndSpacing_returnsTrue() {
+        uniqueClubList.add(ARCHERY);
+        Club sameName = new ClubBuilder(BALL).withName("archery   CLUB").build();
+        assertTrue(uniqueClubList.contains(sameName));
+    }
+
+    @Test
+    public void contains_clubWithSameEmailOnly_returnsTrue() {
+        uniqueClubList.add(ARCHERY);
+        Club sameEmail = new ClubBuilder(BALL).withEmail("ARCHERY@example.com").build();
+        assertTrue(uniqueClubList.contains(sameEmail));
+    }
+
+    @Test
+    public void setClub_editedClubTakesEmailOfOtherClub_throwsDuplicateClubException() {
+        uniqueClubList.add(ARCHERY);
+        uniqueClubList.add(BALL);
+        Club editedArchery = new ClubBuilder(ARCHERY).withEmail("ball@example.com").build();
+        assertThrows(DuplicateClubException.class, () -> uniqueClubList.setClub(ARCHERY, editedArchery));
+    }
+
+    @Test
+    public void getClub_indexFollowsMutations() {
+        uniqueClubList.add(ARCHERY);
+        assertEquals(Optional.of(ARCHERY), uniqueClubList.getClub(new Name("ARCHERY club")));
+
+        Club editedArchery = new ClubBuilder(ARCHERY).withName("Bow Club").build();
+        uniqueClubList.setClub(ARCHERY, editedArchery);
+        assertEquals(Optional.empty(), uniqueClubList.getClub(ARCHERY.getName()));
+        assertEquals(Optional.of(editedArchery), uniqueClubList.getClub(editedArchery.getName()));
+        assertTrue(uniqueClubList.contains(ARCHERY));
+
+        uniqueClubList.remove(editedArchery);
+        assertFalse(uniqueClubList.contains(ARCHERY));
+    }
+
+    @Test
+    public void add_clubWithoutId_assignsUnusedId() {
+        uniqueClubList.add(ARCHERY);
+        Club club = new ClubBuilder().withName("Chess Club").withEmail("chess@example.com").build();
+        assertFalse(club.hasId());
+
+        uniqueClubList.add(club);
+        assertTrue(club.hasId());
+        assertTrue(club.getId() > ARCHERY.getId());
+    }
+
+    @Test
+    public void setClubs_listWithIds_reservesThoseIds() {
+        Club withId = new ClubBuilder(ARCHERY).withId(50).build();
+        uniqueClubList.setClubs(List.of(withId));
+        Club added = new ClubBuilder(BALL).build();
+        uniqueClubList.add(added);
+        assertEquals(50, withId.getId());
+        assertEquals(51, added.getId());
+    }
+
+    @Test
+    public void setClub_editedClubWithoutId_keepsTargetId() {
+        uniqueClubList.add(ARCHERY);
+        Club editedArchery = new ClubBuilder(ARCHERY).withAddress(VALID_ADDRESS_BOB).build();
+        uniqueClubList.setClub(ARCHERY, editedArchery);
+        assertEquals(ARCHERY.getId(), editedArchery.getId());
+    }
+
+    @Test
+    public void setClubs_listWithIdsAfterRecordsWithout_assignsIdsThatDoNotClash() {
+        Club withoutId = new ClubBuilder(ARCHERY).build();
+        Club withId = new ClubBuilder(BALL).withId(1).build();
+        uniqueClubList.setClubs(List.of(withoutId, withId));
+        assertEquals(1, withId.getId());
+        assertEquals(2, withoutId.getId());
+    }
 }
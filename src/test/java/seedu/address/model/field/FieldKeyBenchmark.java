@@ -0,0 +1,161 @@
+package seedu.address.model.field;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.field.validator.NameValidator;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Times sorting, deduplicating and looking up 100k persons with the keys and hashes that the field value objects
+ * compute once, against the same work done the way it was before, deriving them again on every call.
+ * Each variant is warmed up first and the median of the measured runs is printed.
+ *
+ * Not part of {@code gradle test}; run it with {@code gradle benchmark}.
+ */
+@Tag("benchmark")
+public class FieldKeyBenchmark {
+
+    private static final int RECORD_COUNT = 100_000;
+    private static final int WARM_UP_RUNS = 5;
+    private static final int MEASURED_RUNS = 10;
+
+    private final List<Person> persons = createPersons();
+
+    @Test
+    public void sort() {
+        Comparator<Person> perCall = (first, second) -> first.getName().fullName.toLowerCase()
+                .compareTo(second.getName().fullName.toLowerCase());
+        Comparator<Person> precomputed = Comparator.comparing(Person::getName);
+
+        compare("sort by name", () -> sorted(perCall), () -> sorted(precomputed));
+    }
+
+    @Test
+    public void dedupe() {
+        List<Person> withDuplicates = new ArrayList<>(persons);
+        withDuplicates.addAll(persons);
+
+        compare("dedupe", () -> {
+            Set<UncachedHash> distinct = new HashSet<>();
+            withDuplicates.forEach(person -> distinct.add(new UncachedHash(person)));
+            return distinct.size();
+        }, () -> new HashSet<>(withDuplicates).size());
+    }
+
+    @Test
+    public void lookup() {
+        Set<UncachedHash> uncachedSet = new HashSet<>();
+        persons.forEach(person -> uncachedSet.add(new UncachedHash(person)));
+        Set<Person> cachedSet = new HashSet<>(persons);
+
+        compare("lookup", () -> {
+            int matches = 0;
+            for (int i = 0; i < persons.size(); i++) {
+                Person person = persons.get(i);
+                Person neighbour = persons.get((i + 1) % persons.size());
+                if (uncachedSet.contains(new UncachedHash(person))
+                        && !NameValidator.normalize(person.getName().fullName)
+                                .equalsIgnoreCase(NameValidator.normalize(neighbour.getName().fullName))
+                        && !person.getEmail().value.equalsIgnoreCase(neighbour.getEmail().value)) {
+                    matches++;
+                }
+            }
+            return matches;
+        }, () -> {
+            int matches = 0;
+            for (int i = 0; i < persons.size(); i++) {
+                Person person = persons.get(i);
+                Person neighbour = persons.get((i + 1) % persons.size());
+                if (cachedSet.contains(person)
+                        && !person.getName().isSameName(neighbour.getName())
+                        && !person.isSamePerson(neighbour)) {
+                    matches++;
+                }
+            }
+            return matches;
+        });
+    }
+
+    private List<Person> sorted(Comparator<Person> comparator) {
+        List<Person> copy = new ArrayList<>(persons);
+        copy.sort(comparator);
+        return copy;
+    }
+
+    /**
+     * Runs both variants, checks that they agree and prints their median times.
+     */
+    private static void compare(String workload, Supplier<Object> perCall, Supplier<Object> precomputed) {
+        assertEquals(perCall.get(), precomputed.get());
+        long perCallNanos = medianNanos(perCall);
+        long precomputedNanos = medianNanos(precomputed);
+        System.out.printf("%-14s %,d records: per call %7.2f ms, precomputed %7.2f ms (%.1fx)%n", workload,
+                RECORD_COUNT, perCallNanos / 1e6, precomputedNanos / 1e6, (double) perCallNanos / precomputedNanos);
+    }
+
+    private static long medianNanos(Supplier<Object> work) {
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            work.get();
+        }
+        long[] nanos = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            work.get();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos[MEASURED_RUNS / 2];
+    }
+
+    private static List<Person> createPersons() {
+        String[] firstNames = {"Alex", "bernice", "CHARLOTTE", "David", "irfan", "Roy"};
+        String[] lastNames = {"Yeoh", "yu", "OLIVEIRO", "Li", "Ibrahim", "Balakrishnan"};
+        List<Person> created = new ArrayList<>();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            String name = firstNames[i % firstNames.length] + "  " + lastNames[i / firstNames.length
+                    % lastNames.length] + " " + i;
+            created.add(new PersonBuilder().withName(name).withEmail("Person" + i + "@Example.com")
+                    .withAddress("Blk " + i + " Clementi Ave 3").withTags("friends", i % 2 == 0 ? "Even" : "Odd")
+                    .build());
+        }
+        Collections.shuffle(created, new Random(RECORD_COUNT));
+        return created;
+    }
+
+    /**
+     * Hashes a person the way {@code Person#hashCode} did before its hash was cached.
+     */
+    private static class UncachedHash {
+        private final Person person;
+
+        UncachedHash(Person person) {
+            this.person = person;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof UncachedHash && person.equals(((UncachedHash) other).person);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                    person.getTags());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.model.field;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class SearchProjectionTest {
+
+    @Test
+    public void normalize() {
+        // lower-cased
+        assertEquals("alice pauline", SearchProjection.normalize("Alice PAULINE"));
+
+        // full-width letters and ligatures -> plain letters
+        assertEquals("alice", SearchProjection.normalize("\uFF21lice"));
+        assertEquals("office", SearchProjection.normalize("o\uFB03ce"));
+
+        // already normalized -> same string
+        String normalized = "alice";
+        assertSame(normalized, SearchProjection.normalize(normalized));
+
+        assertThrows(NullPointerException.class, () -> SearchProjection.normalize(null));
+    }
+
+    @Test
+    public void digitsOf() {
+        assertEquals("91234567", SearchProjection.digitsOf("9123 4567"));
+        assertEquals("6591234567", SearchProjection.digitsOf("+65 (9123) 4567"));
+        assertEquals("", SearchProjection.digitsOf(""));
+
+        // full-width digits -> ASCII digits
+        assertEquals("12", SearchProjection.digitsOf("\uFF11\uFF12"));
+    }
+
+    @Test
+    public void constructor_projectsEveryField() {
+        Person person = new PersonBuilder().withName("Alice Pauline").withPhone("9123 4567")
+                .withEmail("Alice@Example.com").withAddress("123, Jurong West").build();
+        SearchProjection projection = person.getSearchProjection();
+
+        assertEquals("alice pauline", projection.name);
+        assertEquals("9123 4567", projection.phone);
+        assertEquals("91234567", projection.phoneDigits);
+        assertEquals("alice@example.com", projection.email);
+        assertEquals("123, jurong west", projection.address);
+        assertEquals(projection.name, projection.get(SearchField.NAME));
+        assertEquals(projection.address, projection.get(SearchField.ADDRESS));
+        assertEquals(projection.email, projection.get(SearchField.EMAIL));
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.address.model.field;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class SubstringIndexTest {
+
+    private final Person alice = new PersonBuilder().withId(1).withName("Alice Pauline")
+            .withAddress("123, Jurong West Ave 6").withEmail("alice@example.com").build();
+    private final Person benson = new PersonBuilder().withId(2).withName("Benson Meier")
+            .withAddress("311, Clementi Ave 2").withEmail("johnd@example.com").build();
+
+    @Test
+    public void getCandidateIds_includesEveryMatch() {
+        SubstringIndex index = new SubstringIndex();
+        index.add(alice.getId(), alice);
+        index.add(benson.getId(), benson);
+
+        assertEquals(Optional.of(Set.of(alice.getId())), index.getCandidateIds(SearchField.NAME, "PAULINE"));
+        assertEquals(Optional.of(Set.of(benson.getId())), index.getCandidateIds(SearchField.NAME, "son me"));
+        assertEquals(Optional.of(Set.of(alice.getId(), benson.getId())),
+                index.getCandidateIds(SearchField.ADDRESS, "ave"));
+        assertEquals(Optional.of(Set.of(alice.getId(), benson.getId())),
+                index.getCandidateIds(SearchField.EMAIL, "example"));
+
+        // text in another field -> not a candidate
+        assertEquals(Optional.of(Set.of()), index.getCandidateIds(SearchField.NAME, "example"));
+
+        // trigram not indexed -> no candidates
+        assertEquals(Optional.of(Set.of()), index.getCandidateIds(SearchField.NAME, "xyz"));
+    }
+
+    @Test
+    public void getCandidateIds_shortKeyword_returnsEmptyOptional() {
+        SubstringIndex index = new SubstringIndex();
+        index.add(alice.getId(), alice);
+
+        assertFalse(index.getCandidateIds(SearchField.NAME, "al").isPresent());
+        assertTrue(index.getCandidateIds(SearchField.NAME, "ali").isPresent());
+    }
+
+    @Test
+    public void remove_forgetsOnlyThatEntity() {
+        SubstringIndex index = new SubstringIndex();
+        index.add(alice.getId(), alice);
+        index.add(benson.getId(), benson);
+
+        index.remove(alice.getId(), alice);
+        assertEquals(Optional.of(Set.of()), index.getCandidateIds(SearchField.NAME, "alice"));
+        assertEquals(Optional.of(Set.of(benson.getId())), index.getCandidateIds(SearchField.ADDRESS, "ave"));
+    }
+
+    @Test
+    public void setAll_copiesIndependently() {
+        SubstringIndex index = new SubstringIndex();
+        index.add(alice.getId(), alice);
+        SubstringIndex copy = new SubstringIndex();
+        copy.setAll(index);
+
+        index.remove(alice.getId(), alice);
+        assertEquals(Optional.of(Set.of(alice.getId())), copy.getCandidateIds(SearchField.NAME, "alice"));
+
+        copy.clear();
+        assertEquals(Optional.of(Set.of()), copy.getCandidateIds(SearchField.NAME, "alice"));
+    }
+
+    @Test
+    public void takeFrom_movesEntriesAndEmptiesSource() {
+        SubstringIndex index = new SubstringIndex();
+        index.add(alice.getId(), alice);
+        SubstringIndex target = new SubstringIndex();
+        target.add(benson.getId(), benson);
+        target.takeFrom(index);
+
+        assertEquals(Optional.of(Set.of(alice.getId())), target.getCandidateIds(SearchField.NAME, "alice"));
+        assertEquals(Optional.of(Set.of()), target.getCandidateIds(SearchField.NAME, "benson"));
+        assertEquals(Optional.of(Set.of()), index.getCandidateIds(SearchField.NAME, "alice"));
+
+        // the source can be reused without affecting the target
+        index.add(benson.getId(), benson);
+        assertEquals(Optional.of(Set.of()), target.getCandidateIds(SearchField.NAME, "benson"));
+    }
+
+    @Test
+    public void remove_commonTrigram_keepsOtherIds() {
+        SubstringIndex index = new SubstringIndex();
+        for (long id = 1; id <= 1000; id++) {
+            index.add(id, new PersonBuilder().withId(id).withName("Person " + id).build());
+        }
+        Person removed = new PersonBuilder().withId(500).withName("Person 500").build();
+        index.remove(removed.getId(), removed);
+
+        Set<Long> candidates = index.getCandidateIds(SearchField.NAME, "person").get();
+        assertEquals(999, candidates.size());
+        assertFalse(candidates.contains(500L));
+    }
+
+    @Test
+    public void getCandidateIds_null_throwsNullPointerException() {
+        SubstringIndex index = new SubstringIndex();
+        assertThrows(NullPointerException.class, () -> index.getCandidateIds(null, "alice"));
+        assertThrows(NullPointerException.class, () -> index.getCandidateIds(SearchField.NAME, null));
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.address.model.membership;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class MembershipEventLogTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 1, 15);
+    private static final MembershipEvent JOIN = new MembershipEvent(EventType.JOIN, DATE, 12, DATE.plusMonths(12));
+    private static final MembershipEvent CANCEL =
+            new MembershipEvent(EventType.CANCEL, DATE.plusDays(3), 0, DATE.plusMonths(12));
+    private static final MembershipEvent RENEW =
+            new MembershipEvent(EventType.RENEW, DATE.plusMonths(1), 24, DATE.plusMonths(36));
+    private static final MembershipEvent REACTIVATE =
+            new MembershipEvent(EventType.REACTIVATE, DATE.plusMonths(2), 6, DATE.plusMonths(8));
+    private static final MembershipEvent LATE_RENEW =
+            new MembershipEvent(EventType.RENEW, DATE.plusMonths(30), 12, DATE.plusMonths(42));
+
+    @Test
+    public void copyOf_readsBackSameEvents() {
+        List<MembershipEvent> history = List.of(JOIN, CANCEL, RENEW, JOIN, CANCEL);
+        assertEquals(history, MembershipEventLog.copyOf(history));
+    }
+
+    @Test
+    public void append_afterCopy_doesNotAffectOtherLog() {
+        MembershipEventLog original = MembershipEventLog.copyOf(List.of(JOIN));
+        MembershipEventLog copy = original.copy();
+
+        copy.append(EventType.CANCEL, CANCEL.getEventDate(), 0, CANCEL.getNewExpiryDate());
+        original.append(EventType.RENEW, RENEW.getEventDate(), 24, RENEW.getNewExpiryDate());
+
+        assertEquals(List.of(JOIN, CANCEL), copy);
+        assertEquals(List.of(JOIN, RENEW), original);
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        MembershipEventLog log = MembershipEventLog.copyOf(List.of(JOIN));
+        assertThrows(UnsupportedOperationException.class, () -> log.add(RENEW));
+        assertThrows(UnsupportedOperationException.class, () -> log.remove(0));
+    }
+
+    @Test
+    public void append_monthsOutOfRange_throwsIllegalArgumentException() {
+        MembershipEventLog log = new MembershipEventLog();
+        assertThrows(IllegalArgumentException.class, () -> log.append(EventType.RENEW, DATE, 1 << 20, DATE));
+    }
+
+    @Test
+    public void compact_foldsOldRenewalsKeepingOtherEvents() {
+        MembershipEventLog log = MembershipEventLog.copyOf(List.of(JOIN, RENEW, CANCEL, REACTIVATE, LATE_RENEW));
+
+        assertEquals(1, log.compact(DATE.plusMonths(12)));
+
+        MembershipEvent summary = MembershipEvent.summary(RENEW.getEventDate(), REACTIVATE.getEventDate(), 2, 30,
+                REACTIVATE.getNewExpiryDate());
+        assertEquals(List.of(JOIN, CANCEL, summary, LATE_RENEW), log);
+    }
+
+    @Test
+    public void compact_cancelBetweenFoldedRenewals_keepsDateOrder() {
+        MembershipEvent firstRenew =
+                new MembershipEvent(EventType.RENEW, DATE.plusMonths(1), 12, DATE.plusMonths(24));
+        MembershipEvent cancel = new MembershipEvent(EventType.CANCEL, DATE.plusMonths(2), 0, DATE.plusMonths(24));
+        MembershipEvent secondRenew =
+                new MembershipEvent(EventType.RENEW, DATE.plusMonths(3), 6, DATE.plusMonths(30));
+        MembershipEventLog log = MembershipEventLog.copyOf(List.of(JOIN, firstRenew, cancel, secondRenew));
+
+        assertEquals(1, log.compact(DATE.plusMonths(12)));
+
+        MembershipEvent summary = MembershipEvent.summary(firstRenew.getEventDate(), secondRenew.getEventDate(), 2,
+                18, secondRenew.getNewExpiryDate());
+        assertEquals(List.of(JOIN, cancel, summary), log);
+        for (int i = 1; i < log.size(); i++) {
+            assertFalse(log.get(i).getEventDate().isBefore(log.get(i - 1).getEventDate()));
+        }
+    }
+
+    @Test
+    public void compact_existingSummary_foldsIntoNewSummary() {
+        MembershipEventLog log = MembershipEventLog.copyOf(List.of(JOIN, RENEW, REACTIVATE, LATE_RENEW));
+        log.compact(DATE.plusMonths(12));
+        MembershipEventLog copy = log.copy();
+
+        assertEquals(1, log.compact(DATE.plusMonths(36)));
+
+        MembershipEvent summary = MembershipEvent.summary(RENEW.getEventDate(), LATE_RENEW.getEventDate(), 3, 42,
+                LATE_RENEW.getNewExpiryDate());
+        assertEquals(List.of(JOIN, summary), log);
+        assertEquals(List.of(JOIN, MembershipEvent.summary(RENEW.getEventDate(), REACTIVATE.getEventDate(), 2, 30,
+                REACTIVATE.getNewExpiryDate()), LATE_RENEW), copy);
+    }
+
+    @Test
+    public void compact_singleFoldableEvent_leavesLogUnchanged() {
+        MembershipEventLog log = MembershipEventLog.copyOf(List.of(JOIN, RENEW, LATE_RENEW));
+        assertEquals(0, log.compact(DATE.plusMonths(12)));
+        assertEquals(List.of(JOIN, RENEW, LATE_RENEW), log);
+    }
+
+    @Test
+    public void appendSummary_secondSummary_throwsIllegalArgumentException() {
+        MembershipEventLog log = new MembershipEventLog();
+        log.appendSummary(DATE, DATE, 2, 2, DATE);
+        assertThrows(IllegalArgumentException.class, () -> log.appendSummary(DATE, DATE, 2, 2, DATE));
+    }
+}
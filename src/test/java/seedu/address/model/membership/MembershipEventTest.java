@@ -84,4 +84,12 @@ public class MembershipEventTest {
                 eventType, eventDate, monthsAdded, newExpiryDate);
         assertEquals(expectedString, event.toString());
     }
+
+    @Test
+    public void toString_summary_countsRenewalsAndReactivationsTogether() {
+        MembershipEvent summary = MembershipEvent.summary(eventDate, eventDate.plusMonths(2), 3, 18,
+                newExpiryDate);
+        assertEquals(String.format("[SUMMARY] 3 renewals/reactivations totalling 18 months between %s and %s. "
+                + "New Expiry: %s", eventDate, eventDate.plusMonths(2), newExpiryDate), summary.toString());
+    }
 }
@@ -7,6 +7,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,25 +29,26 @@ public class MembershipTest {
     public void setUp() {
         person = new PersonBuilder().build();
         club = new ClubBuilder().build();
-        membership = new Membership(person, club);
+        membership = new Membership(person, club, LocalDate.now());
     }
 
     @Test
     public void constructor_withDuration_setsCorrectExpiryDate() {
         int duration = 6;
-        Membership newMembership = new Membership(person, club, duration);
+        Membership newMembership = new Membership(person, club, duration, LocalDate.now());
         assertEquals(LocalDate.now().plusMonths(duration), newMembership.getExpiryDate());
     }
 
     @Test
     public void constructor_invalidDuration_throwsIllegalArgumentException() {
         int invalidDuration = Membership.MAXIMUM_MEMBERSHIP_DURATION_IN_MONTHS + 1;
-        assertThrows(IllegalArgumentException.class, () -> new Membership(person, club, invalidDuration));
+        assertThrows(IllegalArgumentException.class, () ->
+                new Membership(person, club, invalidDuration, LocalDate.now()));
     }
 
     @Test
     public void isActive_activeMembership_returnsTrue() {
-        assertTrue(membership.isActive());
+        assertTrue(membership.isActive(LocalDate.now()));
     }
 
     @Test
@@ -53,14 +57,14 @@ public class MembershipTest {
         LocalDate yesterday = LocalDate.now().minusDays(1);
         Membership expiredMembership = new Membership(person, club, LocalDate.now().minusMonths(1), yesterday,
                 new ArrayList<>(), MembershipStatus.EXPIRED);
-        assertFalse(expiredMembership.isActive());
+        assertFalse(expiredMembership.isActive(LocalDate.now()));
     }
 
     @Test
     public void renew_validDuration_renewsMembership() {
         int renewalDuration = 3;
         LocalDate expectedExpiry = membership.getExpiryDate().plusMonths(renewalDuration);
-        membership.renew(renewalDuration);
+        membership.renew(renewalDuration, LocalDate.now());
         assertEquals(expectedExpiry, membership.getExpiryDate());
         assertEquals(MembershipStatus.ACTIVE, membership.getStatus());
     }
@@ -68,12 +72,12 @@ public class MembershipTest {
     @Test
     public void renew_invalidDuration_throwsIllegalArgumentException() {
         int invalidDuration = Membership.MAXIMUM_RENEWAL_DURATION_IN_MONTHS + 1;
-        assertThrows(IllegalArgumentException.class, () -> membership.renew(invalidDuration));
+        assertThrows(IllegalArgumentException.class, () -> membership.renew(invalidDuration, LocalDate.now()));
     }
 
     @Test
     public void cancel_activeMembership_pendingCancellation() {
-        membership.cancel();
+        membership.cancel(LocalDate.now());
         assertEquals(MembershipStatus.PENDING_CANCELLATION, membership.getStatus());
     }
 
@@ -85,7 +89,7 @@ public class MembershipTest {
                 new ArrayList<>(), MembershipStatus.EXPIRED);
 
         int reactivationDuration = 12;
-        expiredMembership.reactivate(reactivationDuration);
+        expiredMembership.reactivate(reactivationDuration, LocalDate.now());
         assertEquals(MembershipStatus.ACTIVE, expiredMembership.getStatus());
         // Since it expired, the new expiry date should be from today
         assertEquals(LocalDate.now().plusMonths(reactivationDuration), expiredMembership.getExpiryDate());
@@ -93,7 +97,7 @@ public class MembershipTest {
 
     @Test
     public void equals_samePersonAndClub_returnsTrue() {
-        Membership sameMembership = new Membership(person, club);
+        Membership sameMembership = new Membership(person, club, LocalDate.now());
         assertTrue(membership.equals(sameMembership));
     }
 
@@ -101,9 +105,51 @@ public class MembershipTest {
     public void equals_differentPersonOrClub_returnsFalse() {
         Person anotherPerson = new PersonBuilder().withName("Jane Doe").build();
         Club anotherClub = new ClubBuilder().withName("Another Club").build();
-        Membership differentPersonMembership = new Membership(anotherPerson, club);
-        Membership differentClubMembership = new Membership(person, anotherClub);
+        Membership differentPersonMembership = new Membership(anotherPerson, club, LocalDate.now());
+        Membership differentClubMembership = new Membership(person, anotherClub, LocalDate.now());
         assertFalse(membership.equals(differentPersonMembership));
         assertFalse(membership.equals(differentClubMembership));
     }
+
+    @Test
+    public void getStatusAsOf() {
+        LocalDate expiry = membership.getExpiryDate();
+        assertEquals(MembershipStatus.ACTIVE, membership.getStatusAsOf(expiry));
+        assertEquals(MembershipStatus.EXPIRED, membership.getStatusAsOf(expiry.plusDays(1)));
+        assertEquals(MembershipStatus.ACTIVE, membership.getStatus());
+
+        membership.cancel(LocalDate.now());
+        assertEquals(MembershipStatus.CANCELLED, membership.getStatusAsOf(expiry.plusDays(1)));
+        assertEquals(MembershipStatus.PENDING_CANCELLATION, membership.getStatus());
+    }
+
+    @Test
+    public void cancel_withoutProperties_notifiesPersonAndClub() {
+        person.addMembership(membership);
+        club.addMembership(membership);
+        List<Membership> replaced = new ArrayList<>();
+        person.getMemberships().addListener((ListChangeListener<Membership>) change -> {
+            while (change.next()) {
+                replaced.addAll(change.getAddedSubList());
+            }
+        });
+
+        membership.cancel(LocalDate.now());
+
+        assertEquals(List.of(membership), replaced);
+        assertEquals(0, club.getMembershipCount(MembershipStatus.ACTIVE));
+        assertEquals(1, club.getMembershipCount(MembershipStatus.PENDING_CANCELLATION));
+    }
+
+    @Test
+    public void statusProperty_createdLater_staysInSyncWithGetter() {
+        club.addMembership(membership);
+        membership.cancel(LocalDate.now());
+
+        assertEquals(MembershipStatus.PENDING_CANCELLATION, membership.statusProperty().get());
+        membership.statusProperty().set(MembershipStatus.CANCELLED);
+        assertEquals(MembershipStatus.CANCELLED, membership.getStatus());
+        assertEquals(1, club.getMembershipCount(MembershipStatus.CANCELLED));
+        assertEquals(0, club.getMemberCount());
+    }
 }
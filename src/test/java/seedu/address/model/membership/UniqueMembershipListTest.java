@@ -2,19 +2,29 @@ package seedu.address.model.membership;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.club.Club;
+import seedu.address.model.field.Phone;
 import seedu.address.model.membership.exceptions.DuplicateMembershipException;
 import seedu.address.model.membership.exceptions.MembershipNotFoundException;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.ClubBuilder;
 import seedu.address.testutil.MembershipBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class UniqueMembershipListTest {
 
@@ -87,7 +97,9 @@ public class UniqueMembershipListTest {
     @Test
     public void setMembership_editedMembershipHasNonUniqueIdentity_throwsDuplicateMembershipException() {
         uniqueMembershipList.add(membership);
-        Membership membership2 = new MembershipBuilder().withPerson("Another Person").build();
+        Person anotherPerson = new PersonBuilder().withId(2).withName("Another Person")
+                .withEmail("another@example.com").build();
+        Membership membership2 = new Membership(anotherPerson, membership.getClub(), LocalDate.now());
         uniqueMembershipList.add(membership2);
         assertThrows(DuplicateMembershipException.class, ()
                 -> uniqueMembershipList.setMembership(membership, membership2));
@@ -111,6 +123,33 @@ public class UniqueMembershipListTest {
         assertEquals(expectedUniqueMembershipList, uniqueMembershipList);
     }
 
+    @Test
+    public void remove_membershipInMiddleOfLargeList_keepsPositionsInSync() {
+        Club club = new ClubBuilder().withId(1).build();
+        List<Membership> added = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Person person = new PersonBuilder().withId(i + 1).withName("Person " + i)
+                    .withEmail("person" + i + "@example.com").build();
+            Membership toAdd = new Membership(person, club, LocalDate.now());
+            added.add(toAdd);
+            uniqueMembershipList.add(toAdd);
+        }
+
+        Membership toRemove = added.remove(500);
+        uniqueMembershipList.remove(toRemove);
+
+        List<Membership> listed = uniqueMembershipList.asUnmodifiableObservableList();
+        assertEquals(new HashSet<>(added), new HashSet<>(listed));
+        assertEquals(Optional.empty(),
+                uniqueMembershipList.getMembershipByPersonClub(toRemove.getPerson(), club));
+        // Every membership is still found at the position it is listed at
+        for (Membership membership : listed) {
+            assertSame(membership, uniqueMembershipList
+                    .getMembershipByPersonClub(membership.getPerson(), club).get());
+        }
+        assertEquals(added.size(), uniqueMembershipList.getMembershipsOf(club).size());
+    }
+
     @Test
     public void setMemberships_nullUniqueMembershipList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, ()
@@ -160,4 +199,125 @@ public class UniqueMembershipListTest {
     public void toStringMethod() {
         assertEquals(uniqueMembershipList.asUnmodifiableObservableList().toString(), uniqueMembershipList.toString());
     }
+
+    @Test
+    public void contains_membershipWithSamePersonAndClubIds_returnsTrue() {
+        uniqueMembershipList.add(membership);
+        Person person = membership.getPerson();
+        Person samePerson = new Person(person.getId(), person.getName(), new Phone("99999999"),
+                person.getEmail(), person.getAddress(), person.getTags());
+        assertTrue(uniqueMembershipList.contains(new Membership(samePerson, membership.getClub(), LocalDate.now())));
+        assertTrue(uniqueMembershipList.getMembershipByPersonClub(samePerson, membership.getClub()).isPresent());
+
+        // same fields but a different id -> different person
+        Person copy = new PersonBuilder(person).build();
+        assertFalse(uniqueMembershipList.contains(new Membership(copy, membership.getClub(), LocalDate.now())));
+    }
+
+    @Test
+    public void remove_membershipBeforeOthers_keepsLaterMembershipsReachable() {
+        Membership second = new MembershipBuilder().withClub("Second Club").build();
+        Membership third = new MembershipBuilder().withClub("Third Club").build();
+        uniqueMembershipList.setMemberships(Arrays.asList(membership, second, third));
+
+        uniqueMembershipList.remove(membership);
+        assertEquals(Optional.of(third),
+                uniqueMembershipList.getMembershipByPersonClub(third.getPerson(), third.getClub()));
+
+        Membership editedThird = new Membership(third.getPerson(), new ClubBuilder().withName("Fourth Club").build(),
+                LocalDate.now());
+        uniqueMembershipList.setMembership(third, editedThird);
+        // The last membership took the place of the removed one
+        assertEquals(Arrays.asList(editedThird, second), uniqueMembershipList.asUnmodifiableObservableList());
+        assertFalse(uniqueMembershipList.contains(third));
+        assertTrue(uniqueMembershipList.contains(editedThird));
+    }
+
+    @Test
+    public void getMembershipsOf_followsMutations() {
+        Person person = membership.getPerson();
+        Club club = membership.getClub();
+        Membership second = new Membership(person, new ClubBuilder().withId(2).withName("Second Club")
+                .withEmail("second@example.com").build(), LocalDate.now());
+        uniqueMembershipList.add(membership);
+        uniqueMembershipList.add(second);
+        assertEquals(Arrays.asList(membership, second), uniqueMembershipList.getMembershipsOf(person));
+        assertEquals(List.of(membership), uniqueMembershipList.getMembershipsOf(club));
+
+        uniqueMembershipList.remove(membership);
+        assertEquals(List.of(second), uniqueMembershipList.getMembershipsOf(person));
+        assertEquals(List.of(), uniqueMembershipList.getMembershipsOf(club));
+
+        Person otherPerson = new PersonBuilder().withId(2).withEmail("other@example.com").build();
+        Membership moved = new Membership(otherPerson, second.getClub(), LocalDate.now());
+        uniqueMembershipList.setMembership(second, moved);
+        assertEquals(List.of(), uniqueMembershipList.getMembershipsOf(person));
+        assertEquals(List.of(moved), uniqueMembershipList.getMembershipsOf(second.getClub()));
+    }
+
+    @Test
+    public void updateStatuses_onlyDueMembershipsChange() {
+        Person person = membership.getPerson();
+        Membership shortMembership = new Membership(person, new ClubBuilder().withId(2).withName("Short Club")
+                .withEmail("short@example.com").build(), 1, LocalDate.now());
+        Membership longMembership = new Membership(person, new ClubBuilder().withId(3).withName("Long Club")
+                .withEmail("long@example.com").build(), 24, LocalDate.now());
+        Membership renewedMembership = new Membership(person, new ClubBuilder().withId(4).withName("Renewed Club")
+                .withEmail("renewed@example.com").build(), 1, LocalDate.now());
+        Membership removedMembership = new Membership(person, new ClubBuilder().withId(5).withName("Removed Club")
+                .withEmail("removed@example.com").build(), 1, LocalDate.now());
+        uniqueMembershipList.setMemberships(
+                Arrays.asList(shortMembership, longMembership, renewedMembership, removedMembership));
+        renewedMembership.renew(12, LocalDate.now());
+        uniqueMembershipList.remove(removedMembership);
+
+        LocalDate inSixMonths = LocalDate.now().plusMonths(6);
+        assertEquals(1, uniqueMembershipList.updateStatuses(inSixMonths));
+        assertEquals(MembershipStatus.EXPIRED, shortMembership.getStatus());
+        assertEquals(MembershipStatus.ACTIVE, longMembership.getStatus());
+        assertEquals(MembershipStatus.ACTIVE, renewedMembership.getStatus());
+        assertEquals(MembershipStatus.ACTIVE, removedMembership.getStatus());
+
+        // The renewed membership is due again at its new expiry date
+        assertEquals(1, uniqueMembershipList.updateStatuses(LocalDate.now().plusMonths(14)));
+        assertEquals(MembershipStatus.EXPIRED, renewedMembership.getStatus());
+        assertEquals(MembershipStatus.ACTIVE, longMembership.getStatus());
+    }
+
+    @Test
+    public void updateStatuses_reactivatedMembershipRescheduled() {
+        Membership expired = new Membership(membership.getPerson(), membership.getClub(), 1, LocalDate.now());
+        uniqueMembershipList.add(expired);
+        LocalDate inTwoMonths = LocalDate.now().plusMonths(2);
+        uniqueMembershipList.updateStatuses(inTwoMonths);
+        assertEquals(MembershipStatus.EXPIRED, expired.getStatus());
+
+        expired.reactivate(1, LocalDate.now());
+        uniqueMembershipList.reschedule(expired);
+        assertEquals(1, uniqueMembershipList.updateStatuses(LocalDate.now().plusMonths(3)));
+        assertEquals(MembershipStatus.EXPIRED, expired.getStatus());
+    }
+
+    @Test
+    public void schedule_repeatedChanges_keepsOneEntryPerMembership() {
+        Membership expiring = new Membership(membership.getPerson(), membership.getClub(), 1, LocalDate.now());
+        uniqueMembershipList.add(expiring);
+        for (int i = 0; i < 100; i++) {
+            uniqueMembershipList.reschedule(expiring);
+            uniqueMembershipList.setMembership(expiring, expiring);
+        }
+        assertEquals(1, uniqueMembershipList.getScheduledCount());
+
+        Membership replacement = new Membership(membership.getPerson(), membership.getClub(), 2, LocalDate.now());
+        uniqueMembershipList.setMembership(expiring, replacement);
+        assertEquals(1, uniqueMembershipList.getScheduledCount());
+
+        uniqueMembershipList.remove(replacement);
+        assertEquals(0, uniqueMembershipList.getScheduledCount());
+    }
+
+    @Test
+    public void reschedule_membershipNotInList_throwsMembershipNotFoundException() {
+        assertThrows(MembershipNotFoundException.class, () -> uniqueMembershipList.reschedule(membership));
+    }
 }
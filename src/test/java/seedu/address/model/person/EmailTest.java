@@ -87,4 +87,15 @@ public class EmailTest {
         // different values -> returns false
         assertFalse(email.equals(new Email("other_valid@email.com")));
     }
+
+    @Test
+    public void isSameEmail() {
+        Email email = new Email("Valid@Email.com");
+
+        // different case -> returns true
+        assertTrue(email.isSameEmail(new Email("valid@email.COM")));
+
+        // different values -> returns false
+        assertFalse(email.isSameEmail(new Email("other_valid@email.com")));
+    }
 }
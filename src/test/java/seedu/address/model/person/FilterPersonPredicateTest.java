@@ -67,6 +67,24 @@ public class FilterPersonPredicateTest {
     }
      */
 
+    @Test
+    public void test_fieldContainsKeyword_returnsTrue() {
+        Person alice = new PersonBuilder().withName("Alice Bob").withPhone("9123 4567")
+                .withEmail("alice@email.com").withAddress("Main Street").withTags("friends").build();
+
+        assertTrue(new FilterPersonPredicate(List.of("n/ALICE")).test(alice));
+        assertTrue(new FilterPersonPredicate(List.of("p/3 45")).test(alice));
+        assertTrue(new FilterPersonPredicate(List.of("e/@email")).test(alice));
+        assertTrue(new FilterPersonPredicate(List.of("a/main st")).test(alice));
+        assertTrue(new FilterPersonPredicate(List.of("t/FRIEND")).test(alice));
+
+        // Only one matching keyword
+        assertTrue(new FilterPersonPredicate(List.of("n/carol", "a/street")).test(alice));
+
+        // Keyword too short for a prefix
+        assertFalse(new FilterPersonPredicate(List.of("n")).test(alice));
+    }
+
     @Test
     public void test_nameDoesNotContainKeywords_returnsFalse() {
         // Zero keywords
@@ -105,4 +105,13 @@ public final class NameTest {
         Name n = new Name("  John   A.   Doe  ");
         assertEquals("  John   A.   Doe  ", n.toString());
     }
+
+    @Test
+    void isSameName_ignoresCaseAndExtraSpaces() {
+        Name a = new Name("  John   DOE ");
+        Name b = new Name("john doe");
+        assertTrue(a.isSameName(b));
+        assertEquals("john doe", a.getKey());
+        assertFalse(a.isSameName(new Name("Jane Doe")));
+    }
 }
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -12,8 +13,14 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
+import seedu.address.model.membership.Membership;
+import seedu.address.testutil.ClubBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -24,6 +31,62 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void getMembershipsVersion_membershipsChange_versionChanges() {
+        Person person = new PersonBuilder().build();
+        Membership membership = new Membership(person, new ClubBuilder().build(), 1, LocalDate.now());
+
+        int version = person.getMembershipsVersion();
+        person.addMembership(membership);
+        assertNotEquals(version, person.getMembershipsVersion());
+
+        version = person.getMembershipsVersion();
+        membership.renew(1, LocalDate.now());
+        assertNotEquals(version, person.getMembershipsVersion());
+
+        version = person.getMembershipsVersion();
+        person.removeMembership(membership);
+        assertNotEquals(version, person.getMembershipsVersion());
+    }
+
+    @Test
+    public void addListener_membershipsChangeWithoutObservableList_listenerInvalidated() {
+        Person person = new PersonBuilder().build();
+        int[] invalidations = new int[1];
+        person.addListener(observable -> invalidations[0]++);
+
+        Membership membership = new Membership(person, new ClubBuilder().build(), 1, LocalDate.now());
+        person.addMembership(membership);
+        assertEquals(1, invalidations[0]);
+
+        membership.renew(1, LocalDate.now());
+        assertEquals(2, invalidations[0]);
+
+        person.removeMembership(membership);
+        assertEquals(3, invalidations[0]);
+    }
+
+    @Test
+    public void addListener_membershipsChangeThroughObservableList_listenerInvalidated() {
+        Person person = new PersonBuilder().build();
+        Membership membership = new Membership(person, new ClubBuilder().build(), 1, LocalDate.now());
+        person.addMembership(membership);
+        int[] invalidations = new int[1];
+        int[] listChanges = new int[1];
+        person.addListener(observable -> invalidations[0]++);
+        person.getMemberships().addListener((ListChangeListener<Membership>) change -> listChanges[0]++);
+
+        membership.renew(1, LocalDate.now());
+        assertEquals(1, invalidations[0]);
+        assertEquals(1, listChanges[0]);
+
+        int version = person.getMembershipsVersion();
+        person.getMemberships().remove(membership);
+        assertEquals(2, invalidations[0]);
+        assertEquals(2, listChanges[0]);
+        assertNotEquals(version, person.getMembershipsVersion());
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
@@ -9,14 +9,26 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.model.field.Email;
+import seedu.address.model.field.SearchField;
+import seedu.address.model.membership.Membership;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
+import seedu.address.testutil.ClubBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -141,6 +153,21 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void takePersons_uniquePersonList_takesOverContentsAndIndexes() {
+        uniquePersonList.add(ALICE);
+        UniquePersonList replacement = new UniquePersonList();
+        replacement.add(BOB);
+        uniquePersonList.takePersons(replacement);
+
+        assertEquals(List.of(BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(BOB), uniquePersonList.getPersonByEmail(BOB.getEmail()));
+        assertEquals(Optional.of(Set.of(BOB.getId())), uniquePersonList.getIdsContaining(SearchField.NAME, "bob"));
+        assertEquals(Optional.of(Set.of()), uniquePersonList.getIdsContaining(SearchField.NAME, "alice"));
+        assertEquals(List.of(), replacement.asUnmodifiableObservableList());
+        assertFalse(replacement.contains(BOB));
+    }
+
     @Test
     public void setPersons_nullList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((List<Person>) null));
@@ -211,4 +238,122 @@ public class UniquePersonListTest {
 
         assertThrows(DuplicatePersonException.class, () -> list.setPerson(bob, bobEmailClash));
     }
+
+    @Test
+    public void contains_personWithDifferentlyCasedEmail_returnsTrue() {
+        Person alice = new PersonBuilder().withEmail("alice@example.com").build();
+        uniquePersonList.add(alice);
+        Person upperCased = new PersonBuilder(alice).withEmail("ALICE@Example.com").build();
+        assertTrue(uniquePersonList.contains(upperCased));
+    }
+
+    @Test
+    public void getPersonByEmail_indexFollowsMutations() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Optional.of(ALICE), uniquePersonList.getPersonByEmail(ALICE.getEmail()));
+
+        Person editedAlice = new PersonBuilder(ALICE).withEmail("edited@example.com").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Optional.empty(), uniquePersonList.getPersonByEmail(ALICE.getEmail()));
+        assertEquals(Optional.of(editedAlice), uniquePersonList.getPersonByEmail(new Email("EDITED@example.com")));
+
+        uniquePersonList.remove(editedAlice);
+        assertEquals(Optional.empty(), uniquePersonList.getPersonByEmail(editedAlice.getEmail()));
+
+        uniquePersonList.setPersons(Arrays.asList(BOB));
+        assertEquals(Optional.of(BOB), uniquePersonList.getPersonByEmail(BOB.getEmail()));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void getIdsTagged_indexFollowsMutations() {
+        BitSet husbandKeyIds = new BitSet();
+        husbandKeyIds.set(TagRegistry.keyIdOf(TagRegistry.intern(new Tag(VALID_TAG_HUSBAND))));
+
+        Person taggedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.add(taggedAlice);
+        uniquePersonList.add(BOB);
+        assertEquals(Set.of(taggedAlice.getId(), BOB.getId()), uniquePersonList.getIdsTagged(husbandKeyIds));
+
+        Person untaggedAlice = new PersonBuilder(taggedAlice).withTags().build();
+        uniquePersonList.setPerson(taggedAlice, untaggedAlice);
+        assertEquals(Set.of(BOB.getId()), uniquePersonList.getIdsTagged(husbandKeyIds));
+
+        uniquePersonList.remove(BOB);
+        assertTrue(uniquePersonList.getIdsTagged(husbandKeyIds).isEmpty());
+
+        uniquePersonList.setPersons(Arrays.asList(BOB));
+        assertEquals(Set.of(BOB.getId()), uniquePersonList.getIdsTagged(husbandKeyIds));
+    }
+
+    @Test
+    public void flushUpdates_membershipChanges_reportedOnceInOneChange() {
+        Person alice = new PersonBuilder(ALICE).build();
+        Person bob = new PersonBuilder(BOB).build();
+        uniquePersonList.setPersons(Arrays.asList(alice, bob));
+        Membership first = new Membership(alice, new ClubBuilder().build(), 1, LocalDate.now());
+        Membership second = new Membership(bob, new ClubBuilder().build(), 1, LocalDate.now());
+        alice.addMembership(first);
+        bob.addMembership(second);
+
+        List<Boolean> changes = new ArrayList<>();
+        List<Person> updated = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            changes.add(true);
+            while (change.next()) {
+                assertTrue(change.wasUpdated());
+                updated.addAll(change.getList().subList(change.getFrom(), change.getTo()));
+            }
+        });
+
+        first.renew(1, LocalDate.now());
+        first.renew(2, LocalDate.now());
+        second.cancel(LocalDate.now());
+        assertTrue(changes.isEmpty());
+
+        uniquePersonList.flushUpdates();
+        assertEquals(1, changes.size());
+        assertEquals(List.of(alice, bob), updated);
+
+        uniquePersonList.flushUpdates();
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void add_personWithoutId_assignsUnusedId() {
+        uniquePersonList.add(ALICE);
+        Person amy = new PersonBuilder().withName("Amy Bee").withEmail("amy@example.com").build();
+        assertFalse(amy.hasId());
+
+        uniquePersonList.add(amy);
+        assertTrue(amy.hasId());
+        assertTrue(amy.getId() > ALICE.getId());
+    }
+
+    @Test
+    public void setPersons_listWithIds_reservesThoseIds() {
+        Person withId = new PersonBuilder(ALICE).withId(50).build();
+        uniquePersonList.setPersons(List.of(withId));
+        Person added = new PersonBuilder(BOB).build();
+        uniquePersonList.add(added);
+        assertEquals(50, withId.getId());
+        assertEquals(51, added.getId());
+    }
+
+    @Test
+    public void setPerson_editedPersonWithoutId_keepsTargetId() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(ALICE.getId(), editedAlice.getId());
+    }
+
+    @Test
+    public void setPersons_listWithIdsAfterRecordsWithout_assignsIdsThatDoNotClash() {
+        Person withoutId = new PersonBuilder(ALICE).build();
+        Person withId = new PersonBuilder(BOB).withId(1).build();
+        uniquePersonList.setPersons(List.of(withoutId, withId));
+        assertEquals(1, withId.getId());
+        assertEquals(2, withoutId.getId());
+    }
 }
@@ -0,0 +1,67 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.BitSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    @Test
+    public void of_sharesTagInstances() {
+        TagSet first = TagSet.of(Set.of(new Tag("friends")));
+        TagSet second = TagSet.of(Set.of(new Tag("friends"), new Tag("colleagues")));
+
+        Tag fromFirst = first.iterator().next();
+        Tag fromSecond = second.stream().filter(fromFirst::equals).findFirst().orElseThrow();
+        assertSame(fromFirst, fromSecond);
+    }
+
+    @Test
+    public void equals_matchesOtherSets() {
+        Set<Tag> tags = Set.of(new Tag("friends"), new Tag("colleagues"));
+        TagSet tagSet = TagSet.of(tags);
+
+        assertEquals(tags, tagSet);
+        assertEquals(tagSet, tags);
+        assertEquals(tags.hashCode(), tagSet.hashCode());
+        assertEquals(tagSet, TagSet.of(Set.of(new Tag("colleagues"), new Tag("friends"))));
+        assertFalse(tagSet.equals(TagSet.of(Set.of(new Tag("friends")))));
+    }
+
+    @Test
+    public void contains() {
+        TagSet tagSet = TagSet.of(Set.of(new Tag("friends")));
+
+        assertTrue(tagSet.contains(new Tag("friends")));
+        assertFalse(tagSet.contains(new Tag("Friends")));
+        assertFalse(tagSet.contains(new Tag("neverRegisteredBefore")));
+        assertFalse(tagSet.contains("friends"));
+        assertTrue(TagSet.of(Set.of(new Tag("friends"), new Tag("family"))).containsAll(tagSet));
+    }
+
+    @Test
+    public void intersectsKeys_ignoresCase() {
+        TagSet tagSet = TagSet.of(Set.of(new Tag("Committee")));
+        int keyId = TagRegistry.keyIdOf(TagRegistry.intern(new Tag("committee")));
+
+        BitSet keyIds = new BitSet();
+        assertFalse(tagSet.intersectsKeys(keyIds));
+        keyIds.set(keyId);
+        assertTrue(tagSet.intersectsKeys(keyIds));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tagSet = TagSet.of(Set.of(new Tag("friends")));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.add(new Tag("family")));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(new Tag("friends")));
+        assertThrows(UnsupportedOperationException.class, tagSet::clear);
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.time.LocalDate;
@@ -8,6 +10,8 @@ import java.time.format.DateTimeParseException;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.util.JsonUtil;
+
 import seedu.address.model.membership.EventType;
 import seedu.address.model.membership.MembershipEvent;
 
@@ -34,6 +38,35 @@ public class JsonAdaptedMembershipEventTest {
         assertEquals(TEST_EVENT, event.toModelType());
     }
 
+    @Test
+    public void toModelType_summaryEvent_keepsCountAndFirstDate() {
+        MembershipEvent summary = MembershipEvent.summary(LocalDate.parse(VALID_EVENT_DATE),
+                LocalDate.parse("2023-06-01"), 3, 6, LocalDate.parse(VALID_NEW_EXPIRY_DATE));
+        JsonAdaptedMembershipEvent event = new JsonAdaptedMembershipEvent(summary);
+        assertEquals(summary, event.toModelType());
+    }
+
+    @Test
+    public void toJsonString_ordinaryEvent_omitsSummaryFields() throws Exception {
+        String json = JsonUtil.toJsonString(new JsonAdaptedMembershipEvent(TEST_EVENT));
+        assertTrue(json.contains("\"eventType\""));
+        assertFalse(json.contains("eventCount"));
+        assertFalse(json.contains("firstEventDate"));
+
+        assertEquals(TEST_EVENT, JsonUtil.fromJsonString(json, JsonAdaptedMembershipEvent.class).toModelType());
+    }
+
+    @Test
+    public void toJsonString_summaryEvent_writesCountAndFirstDate() throws Exception {
+        MembershipEvent summary = MembershipEvent.summary(LocalDate.parse(VALID_EVENT_DATE),
+                LocalDate.parse("2023-06-01"), 3, 6, LocalDate.parse(VALID_NEW_EXPIRY_DATE));
+        String json = JsonUtil.toJsonString(new JsonAdaptedMembershipEvent(summary));
+        assertTrue(json.contains("eventCount"));
+        assertTrue(json.contains("firstEventDate"));
+
+        assertEquals(summary, JsonUtil.fromJsonString(json, JsonAdaptedMembershipEvent.class).toModelType());
+    }
+
     @Test
     public void toModelType_invalidEventType_throwsIllegalArgumentException() {
         JsonAdaptedMembershipEvent event = new JsonAdaptedMembershipEvent(
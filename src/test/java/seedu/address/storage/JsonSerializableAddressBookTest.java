@@ -1,16 +1,20 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.club.Club;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -19,6 +23,7 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path MIXED_IDS_FILE = TEST_DATA_FOLDER.resolve("mixedIdsAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -44,4 +49,17 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_recordsWithAndWithoutIds_assignsIdsThatDoNotClash() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(MIXED_IDS_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+
+        List<Person> persons = addressBookFromFile.getPersonList();
+        assertEquals(1, persons.get(1).getId());
+        assertNotEquals(persons.get(0).getId(), persons.get(1).getId());
+        List<Club> clubs = addressBookFromFile.getClubList();
+        assertEquals(1, clubs.get(1).getId());
+        assertNotEquals(clubs.get(0).getId(), clubs.get(1).getId());
+    }
 }
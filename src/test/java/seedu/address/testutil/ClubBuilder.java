@@ -9,6 +9,7 @@ import seedu.address.model.field.Email;
 import seedu.address.model.field.Name;
 import seedu.address.model.field.Phone;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.IdSequence;
 import seedu.address.model.util.SampleDataUtil;
 
 /**
@@ -26,6 +27,7 @@ public final class ClubBuilder {
     private Email email;
     private Address address;
     private Set<Tag> tags;
+    private long id = IdSequence.UNASSIGNED_ID;
 
     /**
      * Creates a {@code ClubBuilder} with the default details.
@@ -89,8 +91,18 @@ public final class ClubBuilder {
         return this;
     }
 
+    /**
+     * Sets the id of the {@code Club} that we are building, instead of leaving it to the list that holds it.
+     */
+    public ClubBuilder withId(long id) {
+        this.id = id;
+        return this;
+    }
+
     public Club build() {
-        return new Club(name, phone, email, address, tags);
+        return id == IdSequence.UNASSIGNED_ID
+                ? new Club(name, phone, email, address, tags)
+                : new Club(id, name, phone, email, address, tags);
     }
 
 }
@@ -1,14 +1,27 @@
 package seedu.address.testutil;
 
+import java.time.LocalDate;
+
 import seedu.address.model.club.Club;
 import seedu.address.model.membership.Membership;
 import seedu.address.model.person.Person;
+import seedu.address.model.util.IdSequence;
 
 /**
  * A utility class to help with building Membership objects.
  */
 public class MembershipBuilder {
 
+    public static final long DEFAULT_PERSON_ID = 1;
+    public static final long DEFAULT_CLUB_ID = 1;
+
+    /** Ids for the persons and clubs made by {@link #withPerson} and {@link #withClub}, so that none collide. */
+    private static final IdSequence ids = new IdSequence();
+
+    static {
+        ids.reserve(Math.max(DEFAULT_PERSON_ID, DEFAULT_CLUB_ID));
+    }
+
     private Person person;
     private Club club;
 
@@ -16,8 +29,8 @@ public class MembershipBuilder {
      * Creates a {@code MembershipBuilder} with the default details.
      */
     public MembershipBuilder() {
-        person = new PersonBuilder().build();
-        club = new ClubBuilder().build();
+        person = new PersonBuilder().withId(DEFAULT_PERSON_ID).build();
+        club = new ClubBuilder().withId(DEFAULT_CLUB_ID).build();
     }
 
     /**
@@ -32,7 +45,7 @@ public class MembershipBuilder {
      * Sets the {@code Person} of the {@code Membership} that we are building.
      */
     public MembershipBuilder withPerson(String name) {
-        this.person = new PersonBuilder().withName(name).build();
+        this.person = new PersonBuilder().withId(ids.next()).withName(name).build();
         return this;
     }
 
@@ -40,11 +53,11 @@ public class MembershipBuilder {
      * Sets the {@code Club} of the {@code Membership} that we are building.
      */
     public MembershipBuilder withClub(String name) {
-        this.club = new ClubBuilder().withName(name).build();
+        this.club = new ClubBuilder().withId(ids.next()).withName(name).build();
         return this;
     }
 
     public Membership build() {
-        return new Membership(person, club);
+        return new Membership(person, club, LocalDate.now());
     }
 }
@@ -9,6 +9,7 @@ import seedu.address.model.field.Name;
 import seedu.address.model.field.Phone;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.IdSequence;
 import seedu.address.model.util.SampleDataUtil;
 
 /**
@@ -26,6 +27,7 @@ public class PersonBuilder {
     private Email email;
     private Address address;
     private Set<Tag> tags;
+    private long id = IdSequence.UNASSIGNED_ID;
 
     /**
      * Creates a {@code PersonBuilder} with the default details.
@@ -89,8 +91,18 @@ public class PersonBuilder {
         return this;
     }
 
+    /**
+     * Sets the id of the {@code Person} that we are building, instead of leaving it to the list that holds it.
+     */
+    public PersonBuilder withId(long id) {
+        this.id = id;
+        return this;
+    }
+
     public Person build() {
-        return new Person(name, phone, email, address, tags);
+        return id == IdSequence.UNASSIGNED_ID
+                ? new Person(name, phone, email, address, tags)
+                : new Person(id, name, phone, email, address, tags);
     }
 
 }
@@ -23,31 +23,31 @@ import seedu.address.model.club.Club;
  */
 public class TypicalClubs {
 
-    public static final Club ARCHERY = new ClubBuilder().withName("Archery Club")
+    public static final Club ARCHERY = new ClubBuilder().withId(201).withName("Archery Club")
             .withAddress("123, Jurong West Ave 6, #08-111").withEmail("archery@example.com")
             .withPhone("+6594351253")
             .withTags("sports").build();
-    public static final Club BALL = new ClubBuilder().withName("Balls Club")
+    public static final Club BALL = new ClubBuilder().withId(202).withName("Balls Club")
             .withAddress("311, Clementi Ave 2, #02-25")
             .withEmail("ball@example.com").withPhone("98765432")
             .withTags("sports", "casual").build();
-    public static final Club CHESS = new ClubBuilder().withName("Chess Club").withPhone("95352563")
+    public static final Club CHESS = new ClubBuilder().withId(203).withName("Chess Club").withPhone("95352563")
             .withEmail("chess@example.com").withAddress("wall street").build();
-    public static final Club DANCE = new ClubBuilder().withName("Dance Club").withPhone("87652533")
+    public static final Club DANCE = new ClubBuilder().withId(204).withName("Dance Club").withPhone("87652533")
             .withEmail("dance@example.com").withAddress("10th street").withTags("friends").build();
-    public static final Club ENGLISH = new ClubBuilder().withName("English Club").withPhone("9482224")
+    public static final Club ENGLISH = new ClubBuilder().withId(205).withName("English Club").withPhone("9482224")
             .withEmail("english@example.com").withAddress("michegan ave").build();
-    public static final Club FRENCH = new ClubBuilder().withName("French Club").withPhone("9482427")
+    public static final Club FRENCH = new ClubBuilder().withId(206).withName("French Club").withPhone("9482427")
             .withEmail("french@example.com").withAddress("little tokyo").build();
-    public static final Club GAME = new ClubBuilder().withName("Games Club").withPhone("9482442")
+    public static final Club GAME = new ClubBuilder().withId(207).withName("Games Club").withPhone("9482442")
             .withEmail("game@example.com").withAddress("4th street").build();
 
     // Manually added - Club's details found in {@code CommandTestUtil}
-    public static final Club ART = new ClubBuilder().withName(VALID_NAME_ART).withPhone(VALID_PHONE_ART)
+    public static final Club ART = new ClubBuilder().withId(208).withName(VALID_NAME_ART).withPhone(VALID_PHONE_ART)
             .withEmail(VALID_EMAIL_ART).withAddress(VALID_ADDRESS_ART).withTags(VALID_TAG_CASUAL).build();
-    public static final Club BOOKS = new ClubBuilder().withName(VALID_NAME_BOOKS).withPhone(VALID_PHONE_BOOKS)
-            .withEmail(VALID_EMAIL_BOOKS).withAddress(VALID_ADDRESS_BOOKS).withTags(VALID_TAG_BIG, VALID_TAG_CASUAL)
-            .build();
+    public static final Club BOOKS = new ClubBuilder().withId(209).withName(VALID_NAME_BOOKS)
+            .withPhone(VALID_PHONE_BOOKS).withEmail(VALID_EMAIL_BOOKS).withAddress(VALID_ADDRESS_BOOKS)
+            .withTags(VALID_TAG_BIG, VALID_TAG_CASUAL).build();
 
     private TypicalClubs() {} // prevents instantiation
 
@@ -1,5 +1,6 @@
 package seedu.address.testutil;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import seedu.address.model.AddressBook;
@@ -22,7 +23,7 @@ public class TypicalPersonsAndClubs {
         List<Person> persons = TypicalPersons.getTypicalPersons();
         List<Club> clubs = TypicalClubs.getTypicalClubs();
         // Use a longer duration to prevent the membership from expiring during testing
-        Membership m = new Membership(persons.get(0), clubs.get(0), 12);
+        Membership m = new Membership(persons.get(0), clubs.get(0), 12, LocalDate.now());
         persons.get(0).addMembership(m);
         clubs.get(0).addMembership(m);
         ab.setPersons(persons);